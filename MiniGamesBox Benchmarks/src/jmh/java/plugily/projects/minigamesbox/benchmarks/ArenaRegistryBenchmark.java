@@ -0,0 +1,84 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.benchmarks;
+
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import plugily.projects.minigamesbox.benchmarks.standin.BukkitStandIns;
+import plugily.projects.minigamesbox.benchmarks.standin.PluginStandIns;
+import plugily.projects.minigamesbox.classic.arena.PluginArena;
+import plugily.projects.minigamesbox.classic.arena.PluginArenaRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arena lookup of players as done by nearly every event listener
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArenaRegistryBenchmark {
+
+  private static final int PLAYERS_PER_ARENA = 16;
+
+  @Param({"10", "100"})
+  private int arenas;
+
+  private PluginArenaRegistry registry;
+  private Player playing;
+  private Player notPlaying;
+
+  @Setup
+  public void setup() {
+    registry = new PluginArenaRegistry(PluginStandIns.plugin());
+    for(int a = 0; a < arenas; a++) {
+      PluginArena arena = PluginStandIns.arena("arena" + a, "Arena " + a, 2);
+      for(int p = 0; p < PLAYERS_PER_ARENA; p++) {
+        Player player = BukkitStandIns.player("Player" + a + "_" + p);
+        arena.getPlayers().add(player);
+        registry.addPlayer(player, arena);
+        playing = player;
+      }
+    }
+    notPlaying = BukkitStandIns.player("Spectating");
+  }
+
+  @Benchmark
+  public PluginArena playerInArena() {
+    return registry.getArena(playing);
+  }
+
+  @Benchmark
+  public PluginArena playerNotInArena() {
+    return registry.getArena(notPlaying);
+  }
+
+}
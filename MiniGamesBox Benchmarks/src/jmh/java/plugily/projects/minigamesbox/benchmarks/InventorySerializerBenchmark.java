@@ -0,0 +1,87 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.benchmarks;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import plugily.projects.minigamesbox.benchmarks.standin.BukkitStandIns;
+import plugily.projects.minigamesbox.benchmarks.standin.PluginStandIns;
+import plugily.projects.minigamesbox.classic.PluginMain;
+import plugily.projects.minigamesbox.classic.utils.serialization.InventorySerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saving and restoring of a full player inventory, both write to the data folder of the stand-in plugin
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InventorySerializerBenchmark {
+
+  private static final Material[] MATERIALS = {Material.STONE, Material.OAK_PLANKS, Material.IRON_SWORD, Material.BREAD, Material.ARROW, Material.TORCH};
+
+  private PluginMain plugin;
+  private Player player;
+  private ItemStack[] contents;
+
+  @Setup
+  public void setup() {
+    plugin = PluginStandIns.plugin();
+    player = BukkitStandIns.player("Inventory");
+    PlayerInventory inventory = player.getInventory();
+    contents = new ItemStack[inventory.getSize()];
+    for(int i = 0; i < contents.length; i++) {
+      contents[i] = new ItemStack(MATERIALS[i % MATERIALS.length], 1 + i % 64);
+    }
+    inventory.setContents(contents);
+    inventory.setArmorContents(new ItemStack[]{new ItemStack(Material.IRON_BOOTS), new ItemStack(Material.IRON_LEGGINGS),
+        new ItemStack(Material.IRON_CHESTPLATE), new ItemStack(Material.IRON_HELMET)});
+  }
+
+  @Benchmark
+  public boolean save() {
+    return InventorySerializer.saveInventoryToFile(plugin, player);
+  }
+
+  @Benchmark
+  public ItemStack[] saveAndLoad() {
+    InventorySerializer.saveInventoryToFile(plugin, player);
+    InventorySerializer.loadInventory(plugin, player);
+    ItemStack[] loaded = player.getInventory().getContents();
+    //restore the items for the next invocation, loading clears the inventory first
+    player.getInventory().setContents(contents);
+    return loaded;
+  }
+
+}
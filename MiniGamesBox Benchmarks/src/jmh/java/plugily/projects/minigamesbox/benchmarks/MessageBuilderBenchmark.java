@@ -0,0 +1,70 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.benchmarks;
+
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import plugily.projects.minigamesbox.benchmarks.standin.BukkitStandIns;
+import plugily.projects.minigamesbox.benchmarks.standin.PluginStandIns;
+import plugily.projects.minigamesbox.classic.arena.PluginArena;
+import plugily.projects.minigamesbox.classic.handlers.language.MessageBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting of chat messages with and without player and arena placeholders
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageBuilderBenchmark {
+
+  private Player player;
+  private PluginArena arena;
+
+  @Setup
+  public void setup() {
+    PluginStandIns.plugin();
+    player = BukkitStandIns.player("Benchmark");
+    arena = PluginStandIns.arena("bench", "Benchmark Map", 2, player);
+  }
+
+  @Benchmark
+  public String plainMessage() {
+    return new MessageBuilder("&7You can't do that [right now]").build();
+  }
+
+  @Benchmark
+  public String placeholderMessage() {
+    return new MessageBuilder("%plugin_prefix% %player% joined %arena_name% (%arena_players_size%/%arena_min_players%)")
+        .player(player).arena(arena).build();
+  }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.benchmarks;
+
+import me.tigerhix.lib.scoreboard.type.Entry;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import plugily.projects.minigamesbox.benchmarks.standin.BukkitStandIns;
+import plugily.projects.minigamesbox.benchmarks.standin.PluginStandIns;
+import plugily.projects.minigamesbox.classic.arena.ArenaState;
+import plugily.projects.minigamesbox.classic.arena.PluginArena;
+import plugily.projects.minigamesbox.classic.arena.managers.PluginScoreboardManager;
+import plugily.projects.minigamesbox.classic.user.User;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting of the default waiting scoreboard of one player, the scoreboard itself is not sent
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScoreboardBenchmark {
+
+  private PluginScoreboardManager scoreboardManager;
+  private User user;
+
+  @Setup
+  public void setup() {
+    Player player = BukkitStandIns.player("Scoreboard");
+    PluginArena arena = PluginStandIns.arena("scoreboard", "Scoreboard Map", 2, player);
+    user = PluginStandIns.user(player);
+
+    //the default lines of language.yml
+    List<String> lines = Arrays.asList("", "■ Players | %arena_players_size%", "", "■ Minimum Players | %arena_min_players%", "", "   www.plugily.xyz");
+    Map<ArenaState, List<String>> contentLines = new EnumMap<>(ArenaState.class);
+    contentLines.put(ArenaState.WAITING_FOR_PLAYERS, lines);
+    //the language manager is not needed for the title and lines
+    scoreboardManager = PluginStandIns.scoreboardManager(arena, "Scoreboard", contentLines);
+  }
+
+  @Benchmark
+  public List<Entry> formatScoreboard() {
+    return scoreboardManager.formatScoreboard(user);
+  }
+
+}
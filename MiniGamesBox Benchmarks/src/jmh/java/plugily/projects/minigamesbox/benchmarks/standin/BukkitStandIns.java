@@ -0,0 +1,215 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.benchmarks.standin;
+
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.UnsafeValues;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import plugily.projects.minigamesbox.classic.utils.version.ServerVersion;
+import plugily.projects.minigamesbox.classic.utils.version.ServerVersionStandIn;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stand-ins for the Bukkit server, players and inventories, only the
+ * methods used by the benchmarked code paths are answered
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class BukkitStandIns {
+
+  private static final Logger LOGGER = Logger.getLogger("MiniGamesBox-Benchmarks");
+  private static final Map<UUID, Player> PLAYERS = new ConcurrentHashMap<>();
+  private static Server server;
+
+  private BukkitStandIns() {
+  }
+
+  /**
+   * Installs the server stand-in once, following calls return the same server
+   *
+   * @return the server stand-in
+   */
+  public static synchronized Server server() {
+    if(server != null) {
+      return server;
+    }
+    //the proxy class package does not contain a craftbukkit version
+    ServerVersionStandIn.setCurrent(ServerVersion.Version.v1_19_R1);
+
+    Map<String, Function<Object[], Object>> itemFactoryAnswers = new HashMap<>();
+    //items without meta are equal to null meta, so no meta gets serialized
+    itemFactoryAnswers.put("equals", args -> args.length == 2 && args[0] == args[1]);
+    itemFactoryAnswers.put("getItemMeta", args -> null);
+    ItemFactory itemFactory = StandIns.stub(ItemFactory.class, itemFactoryAnswers);
+
+    Map<String, Function<Object[], Object>> unsafeAnswers = new HashMap<>();
+    //ItemStack#deserialize resolves materials through the unsafe values, the default answer would load AIR
+    unsafeAnswers.put("getMaterial", args -> Material.getMaterial((String) args[0]));
+    unsafeAnswers.put("fromLegacy", args -> args[0]);
+    unsafeAnswers.put("getDataVersion", args -> 3120);
+    UnsafeValues unsafeValues = StandIns.stub(UnsafeValues.class, unsafeAnswers);
+
+    Map<String, Function<Object[], Object>> answers = new HashMap<>();
+    answers.put("getName", args -> "StandIn");
+    answers.put("getVersion", args -> "StandIn (MC: 1.19.2)");
+    answers.put("getBukkitVersion", args -> "1.19.2-R0.1-SNAPSHOT");
+    answers.put("getLogger", args -> LOGGER);
+    answers.put("getItemFactory", args -> itemFactory);
+    answers.put("getUnsafe", args -> unsafeValues);
+    answers.put("getOnlinePlayers", args -> Collections.unmodifiableCollection(PLAYERS.values()));
+    answers.put("getPlayer", args -> args[0] instanceof UUID ? PLAYERS.get(args[0]) : getPlayerByName(String.valueOf(args[0])));
+    answers.put("getPlayerExact", args -> getPlayerByName(String.valueOf(args[0])));
+    answers.put("createInventory", args -> {
+      int size = args[1] instanceof InventoryType ? ((InventoryType) args[1]).getDefaultSize() : (Integer) args[1];
+      return inventory(Inventory.class, new ItemStack[size], null);
+    });
+    server = StandIns.stub(Server.class, answers);
+    LOGGER.setLevel(Level.WARNING);
+    Bukkit.setServer(server);
+    return server;
+  }
+
+  private static Player getPlayerByName(String name) {
+    for(Player player : PLAYERS.values()) {
+      if(player.getName().equalsIgnoreCase(name)) {
+        return player;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Creates an online player stand-in with an empty inventory
+   *
+   * @param name name of the player
+   * @return the player stand-in
+   */
+  public static Player player(String name) {
+    server();
+    UUID uuid = UUID.nameUUIDFromBytes(("OfflinePlayer:" + name).getBytes(StandardCharsets.UTF_8));
+    AtomicReference<Player> self = new AtomicReference<>();
+    PlayerInventory inventory = inventory(PlayerInventory.class, new ItemStack[36], self);
+
+    Map<String, Function<Object[], Object>> answers = new HashMap<>();
+    answers.put("getUniqueId", args -> uuid);
+    answers.put("getName", args -> name);
+    answers.put("getDisplayName", args -> name);
+    answers.put("getInventory", args -> inventory);
+    answers.put("isOnline", args -> true);
+    answers.put("getHealth", args -> 20D);
+    answers.put("getMaxHealth", args -> 20D);
+    answers.put("getFoodLevel", args -> 20);
+    answers.put("getSaturation", args -> 5F);
+    answers.put("getWalkSpeed", args -> 0.2F);
+    answers.put("getFlySpeed", args -> 0.1F);
+    answers.put("getGameMode", args -> GameMode.SURVIVAL);
+    Player player = StandIns.stub(Player.class, answers);
+    self.set(player);
+    PLAYERS.put(uuid, player);
+    return player;
+  }
+
+  /**
+   * Creates an inventory stand-in backed by the array, player inventories also keep armor and off hand
+   *
+   * @param type     inventory interface
+   * @param contents storage contents
+   * @param holder   holder of the inventory or null
+   * @param <T>      type of the inventory
+   * @return the inventory stand-in
+   */
+  public static <T extends Inventory> T inventory(Class<T> type, ItemStack[] contents, AtomicReference<Player> holder) {
+    ItemStack[] armor = new ItemStack[4];
+    ItemStack[] offHand = new ItemStack[1];
+    Map<String, Function<Object[], Object>> answers = new HashMap<>();
+    answers.put("getSize", args -> contents.length);
+    answers.put("getMaxStackSize", args -> 64);
+    answers.put("getContents", args -> contents.clone());
+    answers.put("getStorageContents", args -> contents.clone());
+    answers.put("setContents", args -> {
+      ItemStack[] items = (ItemStack[]) args[0];
+      if(items.length > contents.length) {
+        throw new IllegalArgumentException("Invalid inventory size; expected " + contents.length + " or less");
+      }
+      Arrays.fill(contents, null);
+      System.arraycopy(items, 0, contents, 0, items.length);
+      return null;
+    });
+    answers.put("getItem", args -> contents[(Integer) args[0]]);
+    answers.put("setItem", args -> {
+      if(args[0] instanceof Integer) {
+        contents[(Integer) args[0]] = (ItemStack) args[1];
+      }
+      return null;
+    });
+    answers.put("clear", args -> {
+      Arrays.fill(contents, null);
+      Arrays.fill(armor, null);
+      offHand[0] = null;
+      return null;
+    });
+    answers.put("getArmorContents", args -> armor.clone());
+    answers.put("setArmorContents", args -> {
+      ItemStack[] items = (ItemStack[]) args[0];
+      System.arraycopy(items, 0, armor, 0, Math.min(items.length, armor.length));
+      return null;
+    });
+    answers.put("getItemInOffHand", args -> offHand[0] == null ? new ItemStack(Material.AIR) : offHand[0]);
+    answers.put("setItemInOffHand", args -> {
+      offHand[0] = (ItemStack) args[0];
+      return null;
+    });
+    answers.put("getHolder", args -> holder == null ? null : holder.get());
+    return StandIns.stub(type, answers);
+  }
+
+  /**
+   * Creates an enabled plugin through the test constructor of JavaPlugin, nothing of the plugin is set up
+   *
+   * @param dataFolder data folder of the plugin
+   * @return the plugin stand-in
+   */
+  public static StandInPlugin plugin(File dataFolder) {
+    return new StandInPlugin(server(), dataFolder, "mgb");
+  }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.benchmarks.standin;
+
+import org.bukkit.entity.Player;
+import plugily.projects.minigamesbox.classic.PluginMain;
+import plugily.projects.minigamesbox.classic.arena.ArenaState;
+import plugily.projects.minigamesbox.classic.arena.PluginArena;
+import plugily.projects.minigamesbox.classic.arena.managers.PluginScoreboardManager;
+import plugily.projects.minigamesbox.classic.handlers.language.MessageBuilderStandIn;
+import plugily.projects.minigamesbox.classic.handlers.language.MessageManager;
+import plugily.projects.minigamesbox.classic.user.User;
+import plugily.projects.minigamesbox.classic.user.UserManager;
+import plugily.projects.minigamesbox.classic.user.data.UserDatabase;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Stand-ins for the plugin and its arenas and users, set up with the default language colors
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class PluginStandIns {
+
+  //option slots of the stand-in arenas
+  private static final int TIMER_SLOT = 0;
+  private static final int MINIMUM_PLAYERS_SLOT = 1;
+  private static final int MAXIMUM_PLAYERS_SLOT = 2;
+
+  private static StandInPlugin plugin;
+
+  private PluginStandIns() {
+  }
+
+  /**
+   * Creates the plugin stand-in once, MessageBuilder uses it with the default colors of language.yml
+   *
+   * @return the plugin stand-in
+   */
+  public static synchronized PluginMain plugin() {
+    if(plugin != null) {
+      return plugin;
+    }
+    File dataFolder;
+    try {
+      dataFolder = Files.createTempDirectory("minigamesbox-benchmarks").toFile();
+    } catch(IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    dataFolder.deleteOnExit();
+    plugin = BukkitStandIns.plugin(dataFolder);
+    plugin.setMessageManager(new StandInMessageManager(plugin, Arrays.asList("[,],(,),{,},■,/,|,▸".split(","))));
+
+    Map<String, String> colors = new HashMap<>();
+    colors.put("COLOR_PLACEHOLDER_VALUE", "&a");
+    colors.put("COLOR_PLACEHOLDER_NUMBER", "&a");
+    colors.put("COLOR_PLACEHOLDER_PLAYER", "&b");
+    colors.put("COLOR_PLACEHOLDER_OTHER", "&a");
+    colors.put("COLOR_CHAT_MESSAGES", "&7");
+    colors.put("COLOR_CHAT_ISSUE", "&c");
+    colors.put("COLOR_CHAT_SPECIAL_BEFORE", "&8");
+    colors.put("IN_GAME_PLUGIN_PREFIX", "&a[MiniGamesBox] ");
+    MessageBuilderStandIn.init(plugin, colors);
+    StandInArena.initArenas(plugin);
+    User.init(plugin);
+    return plugin;
+  }
+
+  /**
+   * Creates an arena without game state handlers and managers, all arena options have the given value
+   *
+   * @param id          id of the arena
+   * @param mapName     map name of the arena
+   * @param optionValue value of every arena option (minimum and maximum players, timer)
+   * @param players     players of the arena
+   * @return the arena stand-in
+   */
+  public static PluginArena arena(String id, String mapName, int optionValue, Player... players) {
+    plugin();
+    PluginArena arena = new StandInArena(id, mapName, new int[]{optionValue, optionValue, optionValue});
+    arena.getPlayers().addAll(Arrays.asList(players));
+    return arena;
+  }
+
+  /**
+   * Creates a user without looking up the default kit, no kit is set
+   *
+   * @param player player of the user
+   * @return the user stand-in
+   */
+  public static User user(Player player) {
+    plugin();
+    return new StandInUser(player.getUniqueId());
+  }
+
+  /**
+   * Creates a user manager with the users cached, the database only returns empty values
+   *
+   * @param users users to cache
+   * @return the user manager stand-in
+   */
+  public static UserManager userManager(Collection<User> users) {
+    return new StandInUserManager(plugin(), StandIns.stub(UserDatabase.class), users);
+  }
+
+  /**
+   * Creates a scoreboard manager with the given lines instead of the ones of the language file
+   *
+   * @param arena        arena of the scoreboards
+   * @param title        title of the scoreboards
+   * @param contentLines lines by arena state
+   * @return the scoreboard manager stand-in
+   */
+  public static PluginScoreboardManager scoreboardManager(PluginArena arena, String title, Map<ArenaState, List<String>> contentLines) {
+    return new StandInScoreboardManager(arena, title, contentLines);
+  }
+
+  private static final class StandInArena extends PluginArena {
+
+    private StandInArena(String id, String mapName, int[] arenaOptions) {
+      super(id, mapName, arenaOptions);
+    }
+
+    private static void initArenas(PluginMain plugin) {
+      init(plugin, TIMER_SLOT, MINIMUM_PLAYERS_SLOT, MAXIMUM_PLAYERS_SLOT);
+    }
+
+  }
+
+  private static final class StandInUser extends User {
+
+    private StandInUser(UUID uuid) {
+      super(uuid, null);
+    }
+
+  }
+
+  private static final class StandInUserManager extends UserManager {
+
+    private StandInUserManager(PluginMain plugin, UserDatabase database, Collection<User> users) {
+      super(plugin, database, users);
+    }
+
+  }
+
+  private static final class StandInScoreboardManager extends PluginScoreboardManager {
+
+    private StandInScoreboardManager(PluginArena arena, String boardTitle, Map<ArenaState, List<String>> contentLines) {
+      super(arena, boardTitle, contentLines);
+    }
+
+  }
+
+  private static final class StandInMessageManager extends MessageManager {
+
+    private StandInMessageManager(PluginMain plugin, List<String> specialChars) {
+      super(plugin, specialChars);
+    }
+
+  }
+
+}
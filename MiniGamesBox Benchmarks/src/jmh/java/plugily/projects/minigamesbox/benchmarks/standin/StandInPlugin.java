@@ -0,0 +1,71 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package plugily.projects.minigamesbox.benchmarks.standin;
+
+import org.bukkit.Server;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import plugily.projects.minigamesbox.classic.PluginMain;
+import plugily.projects.minigamesbox.classic.handlers.language.MessageManager;
+
+import java.io.File;
+import java.util.logging.Level;
+
+/**
+ * Plugin created through the test constructor of JavaPlugin, it is enabled without
+ * setting anything up so all managers that are not provided here are null
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class StandInPlugin extends PluginMain {
+
+  private final String pluginNamePrefix;
+  private MessageManager messageManager;
+
+  @SuppressWarnings("deprecation")
+  StandInPlugin(Server server, File dataFolder, String pluginNamePrefix) {
+    super(new JavaPluginLoader(server), new PluginDescriptionFile("MiniGamesBox", "1.0.0", PluginMain.class.getName()),
+        dataFolder, new File(dataFolder, "MiniGamesBox.jar"));
+    this.pluginNamePrefix = pluginNamePrefix;
+    getLogger().setLevel(Level.WARNING);
+    setEnabled(true);
+  }
+
+  @Override
+  public void onEnable() {
+    //managers are provided by the stand-ins
+  }
+
+  @Override
+  public String getPluginNamePrefix() {
+    return pluginNamePrefix;
+  }
+
+  @Override
+  public MessageManager getMessageManager() {
+    return messageManager;
+  }
+
+  void setMessageManager(MessageManager messageManager) {
+    this.messageManager = messageManager;
+  }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.benchmarks.standin;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Proxy helpers to create lightweight stand-ins for interfaces of the server api
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class StandIns {
+
+  private StandIns() {
+  }
+
+  /**
+   * Creates a proxy for the interface. Methods found in the answers are answered by them,
+   * all other methods return empty values, empty collections or stand-ins for interfaces.
+   *
+   * @param type    interface to implement
+   * @param answers answers by method name, overloads share the answer
+   * @param <T>     type of the interface
+   * @return the stand-in
+   */
+  public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+    Map<Method, Object> nestedStubs = new ConcurrentHashMap<>();
+    Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+      Object[] arguments = args == null ? new Object[0] : args;
+      Function<Object[], Object> answer = answers.get(method.getName());
+      if(answer != null) {
+        return answer.apply(arguments);
+      }
+      switch(method.getName()) {
+        case "hashCode":
+          return System.identityHashCode(self);
+        case "equals":
+          return arguments.length == 1 && self == arguments[0];
+        case "toString":
+          return type.getSimpleName() + "StandIn";
+        default:
+          break;
+      }
+      Class<?> returnType = method.getReturnType();
+      if(returnType.isInterface() && !isContainer(returnType)) {
+        return nestedStubs.computeIfAbsent(method, key -> stub(returnType, Collections.emptyMap()));
+      }
+      return defaultValue(returnType);
+    });
+    return type.cast(proxy);
+  }
+
+  /**
+   * @param type    interface to implement
+   * @param <T>     type of the interface
+   * @return a stand-in that only returns empty values
+   */
+  public static <T> T stub(Class<T> type) {
+    return stub(type, new HashMap<>());
+  }
+
+  private static boolean isContainer(Class<?> type) {
+    return Iterable.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || type == CharSequence.class;
+  }
+
+  private static Object defaultValue(Class<?> type) {
+    if(type == void.class) {
+      return null;
+    }
+    if(type == boolean.class) {
+      return false;
+    }
+    if(type == int.class) {
+      return 0;
+    }
+    if(type == long.class) {
+      return 0L;
+    }
+    if(type == double.class) {
+      return 0D;
+    }
+    if(type == float.class) {
+      return 0F;
+    }
+    if(type == short.class) {
+      return (short) 0;
+    }
+    if(type == byte.class) {
+      return (byte) 0;
+    }
+    if(type == char.class) {
+      return (char) 0;
+    }
+    if(type == String.class || type == CharSequence.class) {
+      return "";
+    }
+    if(type == Optional.class) {
+      return Optional.empty();
+    }
+    if(type.isArray()) {
+      return Array.newInstance(type.getComponentType(), 0);
+    }
+    if(type.isEnum()) {
+      Object[] constants = type.getEnumConstants();
+      return constants.length == 0 ? null : constants[0];
+    }
+    if(Set.class.isAssignableFrom(type)) {
+      return Collections.emptySet();
+    }
+    if(Map.class.isAssignableFrom(type)) {
+      return Collections.emptyMap();
+    }
+    if(type.isAssignableFrom(List.class)) {
+      return Collections.emptyList();
+    }
+    return null;
+  }
+
+}
@@ -61,6 +61,7 @@ import plugily.projects.minigamesbox.classic.handlers.powerup.PowerupRegistry;
 import plugily.projects.minigamesbox.classic.handlers.reward.RewardsFactory;
 import plugily.projects.minigamesbox.classic.handlers.setup.SetupInventory;
 import plugily.projects.minigamesbox.classic.handlers.setup.categories.PluginSetupCategoryManager;
+import plugily.projects.minigamesbox.classic.handlers.selector.ArenaSelectorManager;
 import plugily.projects.minigamesbox.classic.handlers.sign.SignManager;
 import plugily.projects.minigamesbox.classic.kits.KitMenuHandler;
 import plugily.projects.minigamesbox.classic.kits.KitRegistry;
@@ -114,6 +115,8 @@ public class PluginMain extends JavaPlugin {
   private KitMenuHandler kitMenuHandler;
   private HologramManager hologramManager;
   private SignManager signManager;
+  private ArenaSelectorManager arenaSelectorManager;
+  private SpectatorEvents spectatorEvents;
   private PowerupRegistry powerupRegistry;
   private LeaderboardRegistry leaderboardRegistry;
   private HolidayManager holidayManager;
@@ -244,7 +247,7 @@ public class PluginMain extends JavaPlugin {
       new BungeeEvents(this);
     }
 
-    new SpectatorEvents(this);
+    spectatorEvents = new SpectatorEvents(this);
     new JoinEvent(this);
     new QuitEvent(this);
     new ChatEvents(this);
@@ -256,6 +259,7 @@ public class PluginMain extends JavaPlugin {
     arenaOptionManager = new ArenaOptionManager(this);
 
     signManager = new SignManager(this);
+    arenaSelectorManager = new ArenaSelectorManager(this);
 
     PluginArenaUtils.init(this);
     PluginArena.init(this);
@@ -346,6 +350,7 @@ public class PluginMain extends JavaPlugin {
     metrics.addCustomChart(new Metrics.SimplePie("locale_used", () -> languageManager.getPluginLocale().getPrefix()));
     metrics.addCustomChart(new Metrics.SimplePie("bungeecord_hooked", () -> String.valueOf(configPreferences.getOption("BUNGEEMODE"))) {
     });
+    metrics.addCustomChart(new Metrics.SingleLineChart("cached_users", () -> userManager == null ? 0 : userManager.getUserCount()));
     metrics.addCustomChart(new Metrics.SimplePie("update_notifier", () -> {
       if(getConfig().getBoolean("Update-Notifier.Enabled", true)) {
         return getConfig().getBoolean("Update-Notifier.Notify-Beta-Versions", true) ? "Enabled with beta notifier" : "Enabled";
@@ -385,7 +390,9 @@ public class PluginMain extends JavaPlugin {
         armorStand.setCustomNameVisible(false);
       }
       getHologramManager().getArmorStands().clear();
+      getHologramManager().destroyPacketHolograms();
     }
+    ConfigUtils.flushPendingSaves(this);
     getDebugger().debug(getPluginMessagePrefix() + "System disable finished took {0}ms", System.currentTimeMillis() - start);
   }
 
@@ -442,6 +449,14 @@ public class PluginMain extends JavaPlugin {
     return signManager;
   }
 
+  public ArenaSelectorManager getArenaSelectorManager() {
+    return arenaSelectorManager;
+  }
+
+  public SpectatorEvents getSpectatorEvents() {
+    return spectatorEvents;
+  }
+
   public RewardsFactory getRewardsHandler() {
     return rewardsHandler;
   }
@@ -79,6 +79,44 @@ public class StatsStorage {
     return plugin.getUserManager().getDatabase().getStats(stat);
   }
 
+  /**
+   * Get the best players sorted descending by Statistic Type.
+   * Only the requested players are loaded, call it off the main thread on MySQL.
+   *
+   * @param stat  Statistic type to get (kills, deaths etc.)
+   * @param limit maximum amount of players to return
+   * @return Map of UUID keys and Integer values sorted in descending order of requested statistic type
+   */
+  public Map<UUID, Integer> getTop(StatisticType stat, int limit) {
+    return getTop(stat, 0, limit);
+  }
+
+  /**
+   * Get a page of the best players sorted descending by Statistic Type, e.g.
+   * offset 10 and limit 10 returns the players on position 11 to 20.
+   * Only the requested players are loaded, call it off the main thread on MySQL.
+   *
+   * @param stat   Statistic type to get (kills, deaths etc.)
+   * @param offset amount of best players to skip
+   * @param limit  maximum amount of players to return
+   * @return Map of UUID keys and Integer values sorted in descending order of requested statistic type
+   */
+  public Map<UUID, Integer> getTop(StatisticType stat, int offset, int limit) {
+    return plugin.getUserManager().getDatabase().getTop(stat, offset, limit);
+  }
+
+  /**
+   * Get the position of the player in the leaderboard of the Statistic Type.
+   * Call it off the main thread on MySQL.
+   *
+   * @param uuid the UUID of the player
+   * @param stat Statistic type to get (kills, deaths etc.)
+   * @return position starting at 1 or 0 if the player has no statistics stored
+   */
+  public int getRank(UUID uuid, StatisticType stat) {
+    return plugin.getUserManager().getDatabase().getRank(uuid, stat);
+  }
+
   /**
    * Get user statistic based on StatisticType
    *
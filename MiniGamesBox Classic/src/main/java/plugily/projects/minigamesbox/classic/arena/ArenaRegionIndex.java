@@ -0,0 +1,127 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.classic.arena;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Grid of the areas around the arena start locations, locations in cells
+ * without any arena are rejected with a single lookup and no distance math
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+public class ArenaRegionIndex {
+
+  //cells are 4x4 chunks, small enough to skip most of the world and large enough to keep the grid small
+  private static final int CELL_SHIFT = 6;
+
+  private final double radiusSquared;
+  private final Map<UUID, Map<Long, PluginArena[]>> cells = new HashMap<>();
+
+  public ArenaRegionIndex(Collection<PluginArena> arenas, double radius) {
+    this.radiusSquared = radius * radius;
+    for(PluginArena arena : arenas) {
+      Location start = arena.getStartLocation();
+      World world = start == null ? null : start.getWorld();
+      if(world == null) {
+        continue;
+      }
+      Map<Long, PluginArena[]> worldCells = cells.computeIfAbsent(world.getUID(), uuid -> new HashMap<>());
+      int minX = (int) Math.floor(start.getX() - radius) >> CELL_SHIFT;
+      int maxX = (int) Math.floor(start.getX() + radius) >> CELL_SHIFT;
+      int minZ = (int) Math.floor(start.getZ() - radius) >> CELL_SHIFT;
+      int maxZ = (int) Math.floor(start.getZ() + radius) >> CELL_SHIFT;
+      for(int cellX = minX; cellX <= maxX; cellX++) {
+        for(int cellZ = minZ; cellZ <= maxZ; cellZ++) {
+          if(distanceSquaredToCell(start, cellX, cellZ) < radiusSquared) {
+            worldCells.merge(key(cellX, cellZ), new PluginArena[]{arena}, ArenaRegionIndex::concat);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the first arena whose start location is closer than the radius of this index
+   *
+   * @param location location to check
+   * @return arena around the location or null if there is none
+   */
+  @Nullable
+  public PluginArena getArena(Location location) {
+    World world = location.getWorld();
+    if(world == null || cells.isEmpty()) {
+      return null;
+    }
+    Map<Long, PluginArena[]> worldCells = cells.get(world.getUID());
+    if(worldCells == null) {
+      return null;
+    }
+    PluginArena[] candidates = worldCells.get(key(location.getBlockX() >> CELL_SHIFT, location.getBlockZ() >> CELL_SHIFT));
+    if(candidates == null) {
+      return null;
+    }
+    for(PluginArena arena : candidates) {
+      //worlds already match by uid, Location#distanceSquared would compare the world instances
+      Location start = arena.getStartLocation();
+      double deltaX = start.getX() - location.getX();
+      double deltaY = start.getY() - location.getY();
+      double deltaZ = start.getZ() - location.getZ();
+      if(deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ < radiusSquared) {
+        return arena;
+      }
+    }
+    return null;
+  }
+
+  public boolean isNearArena(Location location) {
+    return getArena(location) != null;
+  }
+
+  private static double distanceSquaredToCell(Location location, int cellX, int cellZ) {
+    int cellSize = 1 << CELL_SHIFT;
+    double minX = (double) cellX * cellSize;
+    double minZ = (double) cellZ * cellSize;
+    double deltaX = Math.max(0, Math.max(minX - location.getX(), location.getX() - (minX + cellSize)));
+    double deltaZ = Math.max(0, Math.max(minZ - location.getZ(), location.getZ() - (minZ + cellSize)));
+    return deltaX * deltaX + deltaZ * deltaZ;
+  }
+
+  private static long key(int cellX, int cellZ) {
+    return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+  }
+
+  private static PluginArena[] concat(PluginArena[] first, PluginArena[] second) {
+    PluginArena[] merged = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, merged, first.length, second.length);
+    return merged;
+  }
+
+}
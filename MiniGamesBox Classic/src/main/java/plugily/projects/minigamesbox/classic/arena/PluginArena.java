@@ -33,6 +33,7 @@ import plugily.projects.minigamesbox.classic.arena.managers.BossbarManager;
 import plugily.projects.minigamesbox.classic.arena.managers.PluginMapRestorerManager;
 import plugily.projects.minigamesbox.classic.arena.managers.PluginScoreboardManager;
 import plugily.projects.minigamesbox.classic.arena.options.ArenaOption;
+import plugily.projects.minigamesbox.classic.arena.options.ArenaOptionManager;
 import plugily.projects.minigamesbox.classic.arena.states.ArenaStateHandler;
 import plugily.projects.minigamesbox.classic.arena.states.PluginEndingState;
 import plugily.projects.minigamesbox.classic.arena.states.PluginInGameState;
@@ -45,7 +46,6 @@ import plugily.projects.minigamesbox.classic.utils.version.VersionUtils;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -63,8 +63,15 @@ public class PluginArena extends BukkitRunnable {
 
   private final Set<Player> players = new HashSet<>();
 
-  //all arena values that are integers, contains constant and floating values
-  private Map<String, ArenaOption> arenaOptions = new HashMap<>();
+  //slot ids of the built-in options, resolved once on init
+  private static int timerSlot;
+  private static int minimumPlayersSlot;
+  private static int maximumPlayersSlot;
+
+  //all arena values that are integers, contains constant and floating values, indexed by option slot
+  private int[] arenaOptions = new int[0];
+  //values read from arenas.yml, used to reset the arena options without parsing the file again
+  private int[] configuredArenaOptions;
   //instead of 3 location fields we use map with GameLocation enum
   private final Map<GameLocation, Location> gameLocations = new EnumMap<>(GameLocation.class);
   //all handlers for all game states, we don't include them all in one runnable because it would be too big
@@ -96,52 +103,107 @@ public class PluginArena extends BukkitRunnable {
     loadArenaOptions();
   }
 
+  /**
+   * Creates an arena without game state handlers and managers, nothing is read from the arena file
+   *
+   * @param id           id of the arena
+   * @param mapName      map name of the arena
+   * @param arenaOptions values of the arena options indexed by option slot
+   */
+  @TestOnly
+  protected PluginArena(String id, String mapName, int[] arenaOptions) {
+    this.id = id;
+    this.mapName = mapName;
+    this.arenaOptions = arenaOptions.clone();
+  }
+
   public void loadArenaOptions() {
-    arenaOptions.clear();
-    arenaOptions = new HashMap<>(plugin.getArenaOptionManager().getArenaOptions());
+    ArenaOptionManager optionManager = plugin.getArenaOptionManager();
+    if(configuredArenaOptions == null || configuredArenaOptions.length != optionManager.getSlotCount()) {
+      configuredArenaOptions = readConfiguredArenaOptions(optionManager);
+    }
+    if(arenaOptions.length != configuredArenaOptions.length) {
+      arenaOptions = new int[configuredArenaOptions.length];
+    }
+    System.arraycopy(configuredArenaOptions, 0, arenaOptions, 0, configuredArenaOptions.length);
+  }
+
+  private int[] readConfiguredArenaOptions(ArenaOptionManager optionManager) {
+    int[] values = optionManager.createDefaultValues();
     FileConfiguration arenas = ConfigUtils.getConfig(plugin, "arenas");
-    for(Map.Entry<String, ArenaOption> options : plugin.getArenaOptionManager().getArenaOptions().entrySet()) {
-      if("null".equals(options.getValue().getPath())) {
+    for(ArenaOption option : optionManager.getArenaOptions().values()) {
+      if("null".equals(option.getPath())) {
         continue;
       }
-      setArenaOption(options.getKey(), arenas.getInt("instances." + id + "." + options.getValue().getPath(), options.getValue().getValue()));
+      values[option.getSlot()] = arenas.getInt("instances." + id + "." + option.getPath(), option.getValue());
     }
+    return values;
   }
 
   /**
-   * Returns whether option value is true or false
-   *
-   * @param name option to get value from
-   * @return true or false based on user configuration
+   * Grows the value array for options that were registered after this arena got created
    */
-  public Integer getArenaOption(String name) {
-    ArenaOption arenaOption = arenaOptions.get(name);
+  private void growArenaOptions(int slot) {
+    if(slot < 0 || slot >= plugin.getArenaOptionManager().getSlotCount()) {
+      throw new IllegalStateException("Option with slot " + slot + " does not exist");
+    }
+    int[] defaults = plugin.getArenaOptionManager().createDefaultValues();
+    System.arraycopy(arenaOptions, 0, defaults, 0, arenaOptions.length);
+    arenaOptions = defaults;
+  }
 
-    if(arenaOption == null) {
+  private int getArenaOptionSlot(String name) {
+    int slot = plugin.getArenaOptionManager().getSlot(name);
+    if(slot < 0) {
       throw new IllegalStateException("Option with name " + name + " does not exist");
     }
+    return slot;
+  }
 
-    return arenaOption.getValue();
+  /**
+   * Returns the value of the option
+   *
+   * @param name option to get value from
+   * @return current value of the option in this arena
+   */
+  public Integer getArenaOption(String name) {
+    return getArenaOption(getArenaOptionSlot(name));
   }
 
   public void setArenaOption(String name, int value) {
-    ArenaOption arenaOption = arenaOptions.get(name);
-
-    if(arenaOption == null) {
-      throw new IllegalStateException("Option with name " + name + " does not exist");
-    }
-
-    arenaOption.setValue(value);
+    setArenaOption(getArenaOptionSlot(name), value);
   }
 
   public void changeArenaOptionBy(String name, int value) {
-    ArenaOption arenaOption = arenaOptions.get(name);
+    changeArenaOptionBy(getArenaOptionSlot(name), value);
+  }
 
-    if(arenaOption == null) {
-      throw new IllegalStateException("Option with name " + name + " does not exist");
+  /**
+   * Returns the value of the option
+   *
+   * @param slot slot id of the option
+   * @return current value of the option in this arena
+   * @see ArenaOptionManager#getSlot(String)
+   */
+  public int getArenaOption(int slot) {
+    if(slot >= arenaOptions.length) {
+      growArenaOptions(slot);
+    }
+    return arenaOptions[slot];
+  }
+
+  public void setArenaOption(int slot, int value) {
+    if(slot >= arenaOptions.length) {
+      growArenaOptions(slot);
     }
+    arenaOptions[slot] = value;
+  }
 
-    arenaOption.setValue(arenaOption.getValue() + value);
+  public void changeArenaOptionBy(int slot, int value) {
+    if(slot >= arenaOptions.length) {
+      growArenaOptions(slot);
+    }
+    arenaOptions[slot] += value;
   }
 
 
@@ -177,6 +239,25 @@ public class PluginArena extends BukkitRunnable {
 
   public static void init(PluginMain plugin) {
     PluginArena.plugin = plugin;
+    timerSlot = plugin.getArenaOptionManager().getSlot("TIMER");
+    minimumPlayersSlot = plugin.getArenaOptionManager().getSlot("MINIMUM_PLAYERS");
+    maximumPlayersSlot = plugin.getArenaOptionManager().getSlot("MAXIMUM_PLAYERS");
+  }
+
+  /**
+   * Initializes the arenas without an arena option manager
+   *
+   * @param plugin             plugin to use
+   * @param timerSlot          option slot of the timer
+   * @param minimumPlayersSlot option slot of the minimum players
+   * @param maximumPlayersSlot option slot of the maximum players
+   */
+  @TestOnly
+  protected static void init(PluginMain plugin, int timerSlot, int minimumPlayersSlot, int maximumPlayersSlot) {
+    PluginArena.plugin = plugin;
+    PluginArena.timerSlot = timerSlot;
+    PluginArena.minimumPlayersSlot = minimumPlayersSlot;
+    PluginArena.maximumPlayersSlot = maximumPlayersSlot;
   }
 
   private void setDefaultValues() {
@@ -202,6 +283,7 @@ public class PluginArena extends BukkitRunnable {
   public void run() {
     //idle task
     if(arenaState == ArenaState.WAITING_FOR_PLAYERS && players.isEmpty()) {
+      updateBungeeMotd();
       return;
     }
     plugin.getDebugger().performance("ArenaTask", "[PerformanceMonitor] [{0}] Running game task", id);
@@ -231,9 +313,16 @@ public class PluginArena extends BukkitRunnable {
       }
     }
     setTimer(getTimer() - 1);
+    updateBungeeMotd();
     plugin.getDebugger().performance("ArenaTask", "[PerformanceMonitor] [{0}] Game task finished took {1}ms", id, System.currentTimeMillis() - start);
   }
 
+  private void updateBungeeMotd() {
+    if(plugin.getBungeeManager() != null) {
+      plugin.getBungeeManager().updateMotd(this);
+    }
+  }
+
   public boolean isForceStart() {
     return forceStart;
   }
@@ -264,11 +353,11 @@ public class PluginArena extends BukkitRunnable {
   }
 
   public int getMinimumPlayers() {
-    return getArenaOption("MINIMUM_PLAYERS");
+    return getArenaOption(minimumPlayersSlot);
   }
 
   public void setMinimumPlayers(int minimumPlayers) {
-    setArenaOption("MINIMUM_PLAYERS", minimumPlayers);
+    setArenaOption(minimumPlayersSlot, minimumPlayers);
   }
 
   /**
@@ -296,7 +385,7 @@ public class PluginArena extends BukkitRunnable {
    * @return timer of lobby time / time to next wave
    */
   public int getTimer() {
-    return getArenaOption("TIMER");
+    return getArenaOption(timerSlot);
   }
 
   /**
@@ -306,7 +395,7 @@ public class PluginArena extends BukkitRunnable {
    */
   public void setTimer(int timer) {
     plugin.getDebugger().debug("Arena {0} Changed ArenaTimer to {1}", getId(), timer);
-    setArenaOption("TIMER", timer);
+    setArenaOption(timerSlot, timer);
   }
 
 
@@ -319,15 +408,15 @@ public class PluginArena extends BukkitRunnable {
   public void setTimer(int timer, boolean forceArenaTimer) {
     this.forceArenaTimer = forceArenaTimer;
     plugin.getDebugger().debug("Arena {0} Changed ArenaTimer to {1} {2}", getId(), timer, forceArenaTimer);
-    setArenaOption("TIMER", timer);
+    setArenaOption(timerSlot, timer);
   }
 
   public int getMaximumPlayers() {
-    return getArenaOption("MAXIMUM_PLAYERS");
+    return getArenaOption(maximumPlayersSlot);
   }
 
   public void setMaximumPlayers(int maximumPlayers) {
-    setArenaOption("MAXIMUM_PLAYERS", maximumPlayers);
+    setArenaOption(maximumPlayersSlot, maximumPlayers);
   }
 
   public PluginMapRestorerManager getMapRestorerManager() {
@@ -353,7 +442,7 @@ public class PluginArena extends BukkitRunnable {
     this.forceArenaState = forceArenaState;
     plugin.getDebugger().debug("Arena {0} Changed ArenaState to {1} {2}", getId(), arenaState, forceArenaState);
     Bukkit.getPluginManager().callEvent(new PlugilyGameStateChangeEvent(this, arenaState));
-    plugin.getSignManager().updateSigns();
+    plugin.getSignManager().updateSigns(this);
   }
 
   /**
@@ -369,7 +458,7 @@ public class PluginArena extends BukkitRunnable {
     this.forceArenaState = true;
     plugin.getDebugger().debug("Arena {0} Changed ArenaState to {1} {2}", getId(), arenaState, forceArenaState);
     Bukkit.getPluginManager().callEvent(new PlugilyGameStateChangeEvent(this, arenaState));
-    plugin.getSignManager().updateSigns();
+    plugin.getSignManager().updateSigns(this);
   }
 
   @NotNull
@@ -411,6 +500,9 @@ public class PluginArena extends BukkitRunnable {
 
   public void setStartLocation(Location location) {
     gameLocations.put(GameLocation.START, location);
+    if(plugin.getArenaRegistry() != null) {
+      plugin.getArenaRegistry().invalidateRegionIndexes();
+    }
   }
 
   public void teleportToEndLocation(Player player) {
@@ -71,6 +71,7 @@ public class PluginArenaManager {
     }
 
     arena.getPlayers().add(player);
+    plugin.getArenaRegistry().addPlayer(player, arena);
 
     if(arena.getArenaState() == ArenaState.IN_GAME || arena.getArenaState().isStartingStage(arena) && arena.getTimer() <= 3 || arena.getArenaState() == ArenaState.ENDING) {
       if(!plugin.getConfigPreferences().getOption("SPECTATORS")) {
@@ -110,7 +111,8 @@ public class PluginArenaManager {
       PluginArenaUtils.showPlayer(arenaPlayer, arena);
     }
     new TitleBuilder("IN_GAME_JOIN_TITLE").asKey().arena(arena).player(player).sendPlayer();
-    plugin.getSignManager().updateSigns();
+    plugin.getSignManager().updateSigns(arena);
+    plugin.getArenaSelectorManager().updateArena(arena);
     plugin.getDebugger().debug("[{0}] Final join attempt as player for {1} took {2}ms", arena.getId(), player.getName(), System.currentTimeMillis() - start);
   }
 
@@ -234,6 +236,7 @@ public class PluginArenaManager {
     User user = plugin.getUserManager().getUser(player);
     arena.getScoreboardManager().removeScoreboard(user);
     arena.getPlayers().remove(player);
+    plugin.getArenaRegistry().removePlayer(player);
     user.setSpectator(false);
     user.setPermanentSpectator(false);
 
@@ -248,7 +251,8 @@ public class PluginArenaManager {
       new MessageBuilder(MessageBuilder.ActionType.LEAVE).arena(arena).player(player).sendArena();
     }
     plugin.getUserManager().saveAllStatistic(user);
-    plugin.getSignManager().updateSigns();
+    plugin.getSignManager().updateSigns(arena);
+    plugin.getArenaSelectorManager().updateArena(arena);
     plugin.getDebugger().debug("[{0}] Final leave attempt for {1} took {2}ms", arena.getId(), player.getName(), System.currentTimeMillis() - start);
   }
 
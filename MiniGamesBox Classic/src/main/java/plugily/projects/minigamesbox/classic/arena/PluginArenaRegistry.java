@@ -19,7 +19,6 @@
 
 package plugily.projects.minigamesbox.classic.arena;
 
-import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -32,7 +31,11 @@ import plugily.projects.minigamesbox.classic.utils.configuration.ConfigUtils;
 import plugily.projects.minigamesbox.classic.utils.serialization.LocationSerializer;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
@@ -45,6 +48,11 @@ import java.util.stream.Collectors;
 public class PluginArenaRegistry {
 
   private final List<PluginArena> arenas = new ArrayList<>();
+  //lookup indexes, arena ids are stored lower cased as they are matched case-insensitive
+  private final Map<String, PluginArena> arenasById = new HashMap<>();
+  private final Map<UUID, PluginArena> playerArenas = new HashMap<>();
+  //region indexes by radius, dropped whenever arenas or their start locations change
+  private final Map<Double, ArenaRegionIndex> regionIndexes = new HashMap<>();
   private final PluginMain plugin;
   private final List<World> arenaIngameWorlds = new ArrayList<>();
   private final List<World> arenaWorlds = new ArrayList<>();
@@ -78,17 +86,15 @@ public class PluginArenaRegistry {
       return null;
     }
 
-    java.util.UUID playerId = player.getUniqueId();
+    PluginArena arena = playerArenas.get(player.getUniqueId());
 
-    for(PluginArena loopArena : arenas) {
-      for(Player arenaPlayer : loopArena.getPlayers()) {
-        if(arenaPlayer.getUniqueId().equals(playerId)) {
-          return loopArena;
-        }
-      }
+    //players set could have been modified without the registry knowing about it
+    if(arena != null && !arena.getPlayers().contains(player)) {
+      playerArenas.remove(player.getUniqueId());
+      return null;
     }
 
-    return null;
+    return arena;
   }
 
   /**
@@ -99,12 +105,40 @@ public class PluginArenaRegistry {
    */
   @Nullable
   public PluginArena getArena(String id) {
-    for(PluginArena loopArena : arenas) {
-      if(loopArena.getId().equalsIgnoreCase(id)) {
-        return loopArena;
-      }
+    if(id == null) {
+      return null;
     }
-    return null;
+    return arenasById.get(id.toLowerCase(Locale.ENGLISH));
+  }
+
+  /**
+   * Adds the player to the player lookup of the given arena
+   *
+   * @param player player who joined the arena
+   * @param arena  arena the player joined
+   * @see PluginArenaManager#joinAttempt(Player, PluginArena)
+   */
+  public void addPlayer(@NotNull Player player, @NotNull PluginArena arena) {
+    playerArenas.put(player.getUniqueId(), arena);
+  }
+
+  /**
+   * Removes the player from the player lookup
+   *
+   * @param player player who left the arena
+   * @see PluginArenaManager#leaveAttempt(Player, PluginArena)
+   */
+  public void removePlayer(@NotNull Player player) {
+    playerArenas.remove(player.getUniqueId());
+  }
+
+  /**
+   * Removes all players of the given arena from the player lookup
+   *
+   * @param arena arena to clear
+   */
+  public void removePlayers(@NotNull PluginArena arena) {
+    playerArenas.values().removeIf(arena::equals);
   }
 
   public int getArenaPlayersOnline() {
@@ -118,6 +152,8 @@ public class PluginArenaRegistry {
   public void registerArena(PluginArena arena) {
     plugin.getDebugger().debug("[{0}] Instance registered", arena.getId());
     arenas.add(arena);
+    arenasById.put(arena.getId().toLowerCase(Locale.ENGLISH), arena);
+    invalidateRegionIndexes();
     World startWorld = arena.getStartLocation().getWorld();
     World endWorld = arena.getEndLocation().getWorld();
     World lobbyWorld = arena.getLobbyLocation().getWorld();
@@ -136,6 +172,9 @@ public class PluginArenaRegistry {
   public void unregisterArena(PluginArena arena) {
     plugin.getDebugger().debug("[{0}] Instance unregistered", arena.getId());
     arenas.remove(arena);
+    arenasById.remove(arena.getId().toLowerCase(Locale.ENGLISH), arena);
+    invalidateRegionIndexes();
+    removePlayers(arena);
 
     World startWorld = arena.getStartLocation().getWorld();
     World endWorld = arena.getEndLocation().getWorld();
@@ -152,10 +191,29 @@ public class PluginArenaRegistry {
     }
   }
 
+  /**
+   * Returns the index of the areas around the start locations of all arenas
+   *
+   * @param radius maximum distance to the start location
+   * @return index built from the currently registered arenas
+   */
+  public ArenaRegionIndex getRegionIndex(double radius) {
+    return regionIndexes.computeIfAbsent(radius, key -> new ArenaRegionIndex(arenas, key));
+  }
+
+  public void invalidateRegionIndexes() {
+    regionIndexes.clear();
+  }
+
   public PluginArena getNewArena(String id) {
     return new PluginArena(id);
   }
 
+  /**
+   * Registers all arenas of arenas.yml in one batch. The file is parsed once,
+   * all arenas are checked, created, registered and started together and
+   * the file and the signs are saved and loaded once afterwards.
+   */
   public void registerArenas() {
     plugin.getDebugger().debug("[ArenaRegistry] Initial arenas registration");
     long start = System.currentTimeMillis();
@@ -170,26 +228,31 @@ public class PluginArenaRegistry {
       plugin.getDebugger().sendConsoleMsg(new MessageBuilder("VALIDATOR_NO_INSTANCES_CREATED").asKey().build());
       return;
     }
+    List<String> ids = new ArrayList<>();
     for(String id : section.getKeys(false)) {
-      if(id.equalsIgnoreCase("default")) {
-        continue;
+      if(!id.equalsIgnoreCase("default")) {
+        ids.add(id);
       }
-      registerArena(id);
     }
+    long parseTime = System.currentTimeMillis() - start;
+
+    long applyStart = System.currentTimeMillis();
+    boolean changed = false;
+    for(String id : ids) {
+      changed |= !registerArena(section, id, getConfigurationProblem(section, id));
+    }
+    if(changed) {
+      ConfigUtils.saveConfig(plugin, config, "arenas");
+    }
+    plugin.getSignManager().loadSigns();
+    long applyTime = System.currentTimeMillis() - applyStart;
+    plugin.getDebugger().performance("ArenaRegistry", "[PerformanceMonitor] [ArenaRegistry] Registered {0} arenas, parse {1}ms, validate and apply {2}ms", ids.size(), parseTime, applyTime);
     plugin.getDebugger().debug("[ArenaRegistry] Arenas registration completed took {0}ms", System.currentTimeMillis() - start);
   }
 
   public void registerArena(String key) {
     plugin.getDebugger().debug("[ArenaRegistry] Initial arena registration for " + key);
     long start = System.currentTimeMillis();
-    if(!arenas.isEmpty()) {
-      List<PluginArena> sameArenas = arenas.stream().filter(pluginArena -> pluginArena.getId().equals(key)).collect(Collectors.toList());
-      if(!sameArenas.isEmpty()) {
-        for(PluginArena arena : new ArrayList<>(sameArenas)) {
-          unregisterArena(arena);
-        }
-      }
-    }
 
     FileConfiguration config = ConfigUtils.getConfig(plugin, "arenas");
     ConfigurationSection section = config.getConfigurationSection("instances");
@@ -198,61 +261,107 @@ public class PluginArenaRegistry {
       return;
     }
 
+    registerArena(section, key, getConfigurationProblem(section, key));
+    ConfigUtils.saveConfig(plugin, config, "arenas");
+    plugin.getSignManager().loadSigns();
+
+    plugin.getDebugger().debug("[ArenaRegistry] Arena registration for " + key + " completed took {0}ms", System.currentTimeMillis() - start);
+  }
+
+  /**
+   * Creates, validates and registers the arena, must be called on the main thread
+   *
+   * @return false if the arena configuration is invalid and the arena was marked as not done
+   */
+  private boolean registerArena(ConfigurationSection section, String key, @Nullable String problem) {
+    if(!arenas.isEmpty()) {
+      List<PluginArena> sameArenas = arenas.stream().filter(pluginArena -> pluginArena.getId().equals(key)).collect(Collectors.toList());
+      for(PluginArena arena : sameArenas) {
+        unregisterArena(arena);
+      }
+    }
+
     PluginArena arena = getNewArena(key);
 
-    if(!validatorChecks(section, arena, key) || !additionalValidatorChecks(section, arena, key)) {
+    if(!validatorChecks(section, arena, key, problem) || !additionalValidatorChecks(section, arena, key)) {
       section.set(key + ".isdone", false);
-      ConfigUtils.saveConfig(plugin, config, "arenas");
-      registerArena(arena);
-    } else {
-      arena.setReady(true);
       registerArena(arena);
-      arena.start();
-      plugin.getDebugger().sendConsoleMsg(new MessageBuilder("VALIDATOR_INSTANCE_STARTED").asKey().arena(arena).build());
+      return false;
     }
+    arena.setReady(true);
+    registerArena(arena);
+    arena.start();
+    plugin.getDebugger().sendConsoleMsg(new MessageBuilder("VALIDATOR_INSTANCE_STARTED").asKey().arena(arena).build());
+    return true;
+  }
 
-    ConfigUtils.saveConfig(plugin, config, "arenas");
-    plugin.getSignManager().loadSigns();
+  public boolean additionalValidatorChecks(ConfigurationSection section, PluginArena arena, String id) {
+    return true;
+  }
 
-    plugin.getDebugger().debug("[ArenaRegistry] Arena registration for " + key + " completed took {0}ms", System.currentTimeMillis() - start);
+  /**
+   * Checks the plain configuration values of the arena
+   *
+   * @return the problem of the configuration or null if it is valid
+   */
+  @Nullable
+  private static String getConfigurationProblem(ConfigurationSection section, String id) {
+    for(String location : new String[]{"lobbylocation", "startlocation", "endlocation", "spectatorlocation"}) {
+      if(!isValidLocation(section.getString(id + "." + location, null))) {
+        return "LOCATIONS ARE INVALID";
+      }
+    }
+    if(!section.getBoolean(id + ".isdone", false)) {
+      return "NOT VALIDATED";
+    }
+    return null;
   }
 
-  public boolean additionalValidatorChecks(ConfigurationSection section, PluginArena arena, String id) {
+  private static boolean isValidLocation(@Nullable String location) {
+    if(location == null) {
+      return false;
+    }
+    String[] values = location.split(",");
+    if(values.length < 4) {
+      return false;
+    }
+    try {
+      for(int i = 1; i < values.length && i < 6; i++) {
+        Double.parseDouble(values[i]);
+      }
+    } catch(NumberFormatException exception) {
+      return false;
+    }
     return true;
   }
 
-  private boolean validatorChecks(ConfigurationSection section, PluginArena arena, String id) {
+  private boolean validatorChecks(ConfigurationSection section, PluginArena arena, String id, @Nullable String problem) {
 
     arena.setMinimumPlayers(section.getInt(id + ".minimumplayers", 3));
     arena.setMaximumPlayers(section.getInt(id + ".maximumplayers", 16));
     arena.setMapName(section.getString(id + ".mapname", id));
 
-    Location lobbyLoc = LocationSerializer.getLocation(section.getString(id + ".lobbylocation", null));
-    if(lobbyLoc != null) {
-      arena.setLobbyLocation(lobbyLoc);
-    }
-    Location startLoc = LocationSerializer.getLocation(section.getString(id + ".startlocation", null));
-    if(startLoc != null) {
-      arena.setStartLocation(startLoc);
+    String lobbyLoc = section.getString(id + ".lobbylocation", null);
+    if(isValidLocation(lobbyLoc)) {
+      arena.setLobbyLocation(LocationSerializer.getLocation(lobbyLoc));
     }
-    Location endLoc = LocationSerializer.getLocation(section.getString(id + ".endlocation", null));
-    if(endLoc != null) {
-      arena.setEndLocation(endLoc);
+    String startLoc = section.getString(id + ".startlocation", null);
+    if(isValidLocation(startLoc)) {
+      arena.setStartLocation(LocationSerializer.getLocation(startLoc));
     }
-    Location spectatorLoc = LocationSerializer.getLocation(section.getString(id + ".spectatorlocation", null));
-    if(spectatorLoc != null) {
-      arena.setSpectatorLocation(spectatorLoc);
+    String endLoc = section.getString(id + ".endlocation", null);
+    if(isValidLocation(endLoc)) {
+      arena.setEndLocation(LocationSerializer.getLocation(endLoc));
     }
-    if(lobbyLoc == null || startLoc == null || endLoc == null || spectatorLoc == null) {
-      plugin.getDebugger().sendConsoleMsg(new MessageBuilder("VALIDATOR_INVALID_ARENA_CONFIGURATION").asKey().value("LOCATIONS ARE INVALID").arena(arena).build());
-      return false;
+    String spectatorLoc = section.getString(id + ".spectatorlocation", null);
+    if(isValidLocation(spectatorLoc)) {
+      arena.setSpectatorLocation(LocationSerializer.getLocation(spectatorLoc));
     }
 
-    if(!section.getBoolean(id + ".isdone", false)) {
-      plugin.getDebugger().sendConsoleMsg(new MessageBuilder("VALIDATOR_INVALID_ARENA_CONFIGURATION").asKey().value("NOT VALIDATED").arena(arena).build());
+    if(problem != null) {
+      plugin.getDebugger().sendConsoleMsg(new MessageBuilder("VALIDATOR_INVALID_ARENA_CONFIGURATION").asKey().value(problem).arena(arena).build());
       return false;
     }
-
     return true;
   }
 
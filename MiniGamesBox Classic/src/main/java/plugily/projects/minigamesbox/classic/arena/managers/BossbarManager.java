@@ -45,6 +45,7 @@ public class BossbarManager {
   private final PluginMain plugin;
   private final PluginArena arena;
   private final int interval;
+  private final int toggleValueSlot;
   private int currentLine;
   private final Map<ArenaState, List<String>> bossbar = new EnumMap<>(ArenaState.class);
   private BossBar gameBar;
@@ -52,6 +53,7 @@ public class BossbarManager {
   public BossbarManager(PluginArena arena) {
     this.arena = arena;
     this.plugin = arena.getPlugin();
+    this.toggleValueSlot = plugin.getArenaOptionManager().getSlot("BAR_TOGGLE_VALUE");
     arena.setArenaOption("BOSSBAR_INTERVAL", plugin.getConfig().getInt("Bossbar.Interval", 10));
     this.interval = arena.getArenaOption("BOSSBAR_INTERVAL");
     this.currentLine = 0;
@@ -86,14 +88,14 @@ public class BossbarManager {
 
     String bossbarMessage = new MessageBuilder(values.get(currentLine)).arena(arena).build();
 
-    if(arena.getArenaOption("BAR_TOGGLE_VALUE") > interval) {
+    if(arena.getArenaOption(toggleValueSlot) > interval) {
       currentLine++;
-      arena.setArenaOption("BAR_TOGGLE_VALUE", 0);
-      arena.changeArenaOptionBy("BAR_TOGGLE_VALUE", 1);
+      arena.setArenaOption(toggleValueSlot, 0);
+      arena.changeArenaOptionBy(toggleValueSlot, 1);
     }
 
     gameBar.setTitle(bossbarMessage);
-    arena.changeArenaOptionBy("BAR_TOGGLE_VALUE", 1);
+    arena.changeArenaOptionBy(toggleValueSlot, 1);
   }
 
   /**
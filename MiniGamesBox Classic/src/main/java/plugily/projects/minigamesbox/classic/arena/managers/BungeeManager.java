@@ -37,7 +37,9 @@ import plugily.projects.minigamesbox.classic.utils.configuration.ConfigUtils;
 import plugily.projects.minigamesbox.classic.utils.misc.complement.ComplementAccessor;
 
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 
 /**
@@ -50,10 +52,14 @@ public class BungeeManager implements Listener {
   private final PluginMain plugin;
   private final FileConfiguration config;
   private final Map<ArenaState, String> motd = new EnumMap<>(ArenaState.class);
+  private final boolean motdManager;
+  //rendered by the arena task, pings only read it
+  private final AtomicReference<MotdSnapshot> motdSnapshot = new AtomicReference<>();
 
   public BungeeManager(PluginMain plugin) {
     this.plugin = plugin;
     config = ConfigUtils.getConfig(plugin, "bungee");
+    motdManager = config.getBoolean("MOTD.Manager");
 
     for(ArenaState arenaState : ArenaState.values()) {
       motd.put(arenaState, plugin.getLanguageManager().getLanguageMessage("Placeholders.Motd." + arenaState.getFormattedName()));
@@ -75,14 +81,44 @@ public class BungeeManager implements Listener {
     player.sendPluginMessage(plugin, "BungeeCord", out.toByteArray());
   }
 
+  /**
+   * Renders the motd of the arena if it is the bungee arena and its state,
+   * timer or players changed since the last render
+   *
+   * @param arena arena that got ticked
+   */
+  public void updateMotd(PluginArena arena) {
+    if(!motdManager) {
+      return;
+    }
+    List<PluginArena> arenas = plugin.getArenaRegistry().getArenas();
+    if(arenas.isEmpty() || arenas.get(plugin.getArenaRegistry().getBungeeArena()) != arena) {
+      return;
+    }
+    MotdSnapshot current = motdSnapshot.get();
+    if(current != null && current.isRenderedFrom(arena)) {
+      return;
+    }
+    motdSnapshot.set(new MotdSnapshot(arena, new MessageBuilder(motd.get(arena.getArenaState())).arena(arena).build()));
+  }
+
   @EventHandler(priority = EventPriority.HIGHEST)
   public void onServerListPing(ServerListPingEvent event) {
-    if(plugin.getArenaRegistry().getArenas().isEmpty() || !config.getBoolean("MOTD.Manager")) {
+    if(!motdManager) {
       return;
     }
-    PluginArena arena = plugin.getArenaRegistry().getArenas().get(plugin.getArenaRegistry().getBungeeArena());
-    event.setMaxPlayers(arena.getMaximumPlayers());
-    ComplementAccessor.getComplement().setMotd(event, new MessageBuilder(motd.get(arena.getArenaState())).arena(arena).build());
+    MotdSnapshot snapshot = motdSnapshot.get();
+    if(snapshot == null) {
+      //no arena task ran yet
+      List<PluginArena> arenas = plugin.getArenaRegistry().getArenas();
+      if(arenas.isEmpty()) {
+        return;
+      }
+      updateMotd(arenas.get(plugin.getArenaRegistry().getBungeeArena()));
+      snapshot = motdSnapshot.get();
+    }
+    event.setMaxPlayers(snapshot.maxPlayers);
+    ComplementAccessor.getComplement().setMotd(event, snapshot.motd);
   }
 
 
@@ -103,4 +139,29 @@ public class BungeeManager implements Listener {
 
   }
 
+  private static final class MotdSnapshot {
+
+    private final PluginArena arena;
+    private final ArenaState arenaState;
+    private final int timer;
+    private final int players;
+    private final int maxPlayers;
+    private final String motd;
+
+    private MotdSnapshot(PluginArena arena, String motd) {
+      this.arena = arena;
+      this.arenaState = arena.getArenaState();
+      this.timer = arena.getTimer();
+      this.players = arena.getPlayers().size();
+      this.maxPlayers = arena.getMaximumPlayers();
+      this.motd = motd;
+    }
+
+    private boolean isRenderedFrom(PluginArena arena) {
+      return this.arena == arena && arenaState == arena.getArenaState() && timer == arena.getTimer()
+          && players == arena.getPlayers().size() && maxPlayers == arena.getMaximumPlayers();
+    }
+
+  }
+
 }
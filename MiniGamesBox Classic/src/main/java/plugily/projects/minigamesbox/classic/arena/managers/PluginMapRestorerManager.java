@@ -39,6 +39,7 @@ public class PluginMapRestorerManager {
     arena.loadArenaOptions();
     arena.getScoreboardManager().stopAllScoreboards();
     arena.getPlayers().clear();
+    arena.getPlugin().getArenaRegistry().removePlayers(arena);
   }
 
 }
@@ -26,12 +26,17 @@ import me.tigerhix.lib.scoreboard.type.Scoreboard;
 import me.tigerhix.lib.scoreboard.type.ScoreboardHandler;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.TestOnly;
 import plugily.projects.minigamesbox.classic.PluginMain;
 import plugily.projects.minigamesbox.classic.arena.ArenaState;
 import plugily.projects.minigamesbox.classic.arena.PluginArena;
 import plugily.projects.minigamesbox.classic.handlers.language.MessageBuilder;
+import plugily.projects.minigamesbox.classic.handlers.language.MessageTemplate;
 import plugily.projects.minigamesbox.classic.user.User;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -45,12 +50,18 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class PluginScoreboardManager {
 
-  private final Map<UUID, Scoreboard> boardMap = new ConcurrentHashMap<>();
+  private final Map<UUID, ArenaBoard> boardMap = new ConcurrentHashMap<>();
   private final Map<UUID, org.bukkit.scoreboard.Scoreboard> lastBoardMap = new ConcurrentHashMap<>();
   private final org.bukkit.scoreboard.Scoreboard dummyBoard = Bukkit.getScoreboardManager().getNewScoreboard();
   private final PluginMain plugin;
   private final String boardTitle;
   private final PluginArena arena;
+  //language lines and which of them depend on the player, resolved once per arena state
+  private final Map<ArenaState, List<String>> contentLines = new EnumMap<>(ArenaState.class);
+  private final Map<ArenaState, boolean[]> playerLines = new EnumMap<>(ArenaState.class);
+  //lines of the current update that are the same for every player, null for player dependent lines
+  private String[] arenaLines;
+  private ArenaState arenaLinesState;
 
   public PluginScoreboardManager(PluginArena arena) {
     this.arena = arena;
@@ -58,6 +69,27 @@ public class PluginScoreboardManager {
     this.boardTitle = new MessageBuilder("SCOREBOARD_TITLE").asKey().arena(arena).build();
   }
 
+  /**
+   * Creates the manager with the given lines instead of the ones of the language file,
+   * every line is treated as player dependent
+   *
+   * @param arena        arena of the scoreboards
+   * @param boardTitle   title of the scoreboards
+   * @param contentLines lines by arena state
+   */
+  @TestOnly
+  protected PluginScoreboardManager(PluginArena arena, String boardTitle, Map<ArenaState, List<String>> contentLines) {
+    this.arena = arena;
+    this.plugin = arena.getPlugin();
+    this.boardTitle = boardTitle;
+    contentLines.forEach((state, lines) -> {
+      boolean[] playerDependent = new boolean[lines.size()];
+      Arrays.fill(playerDependent, true);
+      this.contentLines.put(state, new ArrayList<>(lines));
+      playerLines.put(state, playerDependent);
+    });
+  }
+
   /**
    * Creates arena scoreboard for target user
    *
@@ -69,6 +101,7 @@ public class PluginScoreboardManager {
     lastBoardMap.put(player.getUniqueId(), player.getScoreboard());
     player.setScoreboard(dummyBoard);
 
+    ArenaBoard arenaBoard = new ArenaBoard(user);
     Scoreboard scoreboard = ScoreboardLib.createScoreboard(player).setHandler(new ScoreboardHandler() {
       @Override
       public String getTitle(Player player) {
@@ -77,15 +110,39 @@ public class PluginScoreboardManager {
 
       @Override
       public List<Entry> getEntries(Player player) {
-        return formatScoreboard(user);
+        //entries are rendered in updateScoreboards, the scoreboard only gets the last result
+        if(arenaBoard.entries == null) {
+          arenaBoard.render();
+        }
+        return arenaBoard.entries;
       }
     });
+    arenaBoard.scoreboard = scoreboard;
     scoreboard.activate();
-    boardMap.put(player.getUniqueId(), scoreboard);
+    boardMap.put(player.getUniqueId(), arenaBoard);
   }
 
   public void updateScoreboards() {
-    boardMap.values().forEach(Scoreboard::update);
+    if(boardMap.isEmpty()) {
+      return;
+    }
+    renderArenaLines();
+    for(ArenaBoard arenaBoard : boardMap.values()) {
+      if(arenaBoard.render()) {
+        arenaBoard.scoreboard.update();
+      }
+    }
+    arenaLines = null;
+  }
+
+  /**
+   * Drops the cached scoreboard lines, they are read from the language file again on the next update
+   */
+  public void reloadContent() {
+    contentLines.clear();
+    playerLines.clear();
+    arenaLines = null;
+    arenaLinesState = null;
   }
 
   /**
@@ -95,7 +152,7 @@ public class PluginScoreboardManager {
    * @see User
    */
   public void removeScoreboard(User user) {
-    Optional.ofNullable(boardMap.remove(user.getUniqueId())).ifPresent(Scoreboard::deactivate);
+    Optional.ofNullable(boardMap.remove(user.getUniqueId())).ifPresent(arenaBoard -> arenaBoard.scoreboard.deactivate());
     Optional.ofNullable(lastBoardMap.remove(user.getUniqueId())).ifPresent(user.getPlayer()::setScoreboard);
   }
 
@@ -103,19 +160,86 @@ public class PluginScoreboardManager {
    * Forces all scoreboards to deactivate.
    */
   public void stopAllScoreboards() {
-    boardMap.values().forEach(Scoreboard::deactivate);
+    boardMap.values().forEach(arenaBoard -> arenaBoard.scoreboard.deactivate());
     boardMap.clear();
   }
 
   public List<Entry> formatScoreboard(User user) {
     EntryBuilder builder = new EntryBuilder();
-
-    for(String line : plugin.getLanguageManager().getLanguageList(arena.getArenaState() == ArenaState.FULL_GAME ? "Scoreboard.Content.Waiting"
-        : "Scoreboard.Content." + arena.getArenaState().getFormattedName())) {
-      builder.next(new MessageBuilder(line).player(user.getPlayer()).arena(arena).build());
+    ArenaState state = getContentState();
+    List<String> lines = getContentLines(state);
+    //arena lines are only shared while updateScoreboards runs, otherwise every line gets rendered
+    String[] renderedArenaLines = state == arenaLinesState ? arenaLines : null;
+
+    for(int i = 0; i < lines.size(); i++) {
+      if(renderedArenaLines != null && renderedArenaLines[i] != null) {
+        builder.next(renderedArenaLines[i]);
+      } else {
+        builder.next(new MessageBuilder(lines.get(i)).player(user.getPlayer()).arena(arena).build());
+      }
     }
 
     return builder.build();
   }
 
+  private void renderArenaLines() {
+    ArenaState state = getContentState();
+    List<String> lines = getContentLines(state);
+    boolean[] playerDependent = playerLines.get(state);
+    String[] rendered = new String[lines.size()];
+    for(int i = 0; i < rendered.length; i++) {
+      if(!playerDependent[i]) {
+        rendered[i] = new MessageBuilder(lines.get(i)).arena(arena).build();
+      }
+    }
+    arenaLines = rendered;
+    arenaLinesState = state;
+  }
+
+  private ArenaState getContentState() {
+    return arena.getArenaState() == ArenaState.FULL_GAME ? ArenaState.WAITING_FOR_PLAYERS : arena.getArenaState();
+  }
+
+  private List<String> getContentLines(ArenaState state) {
+    return contentLines.computeIfAbsent(state, key -> {
+      List<String> lines = plugin.getLanguageManager().getLanguageList("Scoreboard.Content." + key.getFormattedName());
+      boolean placeholderApi = plugin.getServer().getPluginManager().isPluginEnabled("PlaceholderAPI");
+      boolean[] playerDependent = new boolean[lines.size()];
+      for(int i = 0; i < playerDependent.length; i++) {
+        playerDependent[i] = MessageTemplate.compile(lines.get(i)).hasPlaceholder(id -> plugin.getPlaceholderManager().isPlayerPlaceholder(id, placeholderApi));
+      }
+      playerLines.put(key, playerDependent);
+      return lines;
+    });
+  }
+
+  private final class ArenaBoard {
+
+    private final User user;
+    private Scoreboard scoreboard;
+    private List<Entry> entries;
+    private List<String> lines;
+
+    private ArenaBoard(User user) {
+      this.user = user;
+    }
+
+    /**
+     * @return true if any line changed since the last render
+     */
+    private boolean render() {
+      List<Entry> rendered = formatScoreboard(user);
+      List<String> renderedLines = new ArrayList<>(rendered.size());
+      for(Entry entry : rendered) {
+        renderedLines.add(entry.getName());
+      }
+      if(renderedLines.equals(lines)) {
+        return false;
+      }
+      entries = rendered;
+      lines = renderedLines;
+      return true;
+    }
+  }
+
 }
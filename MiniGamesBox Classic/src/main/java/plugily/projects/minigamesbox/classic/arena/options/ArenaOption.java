@@ -21,7 +21,7 @@ package plugily.projects.minigamesbox.classic.arena.options;
 
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -30,7 +30,7 @@ import java.util.Map;
  * Created at 23.10.2021
  */
 public class ArenaOption {
-  private static final Map<String, ArenaOption> options = new HashMap<>();
+  private static final Map<String, ArenaOption> options = new LinkedHashMap<>();
 
 
   //found in arena.yml
@@ -55,20 +55,24 @@ public class ArenaOption {
   }
 
   private final String path;
-  private Integer value;
+  private int value;
   private final boolean protectedOption;
+  private final int slot;
 
 
   public ArenaOption(String path, int value, boolean protectedOption) {
-    this.path = path;
-    this.value = value;
-    this.protectedOption = protectedOption;
+    this(path, value, protectedOption, -1);
   }
 
   public ArenaOption(String path, int value) {
+    this(path, value, false, -1);
+  }
+
+  ArenaOption(String path, int value, boolean protectedOption, int slot) {
     this.path = path;
     this.value = value;
-    this.protectedOption = false;
+    this.protectedOption = protectedOption;
+    this.slot = slot;
   }
 
   public String getPath() {
@@ -86,6 +90,14 @@ public class ArenaOption {
     this.value = value;
   }
 
+  /**
+   * @return index of the option in the per arena value array or -1 if not registered
+   * @see ArenaOptionManager#getSlot(String)
+   */
+  public int getSlot() {
+    return slot;
+  }
+
   /**
    * @return whether option is protected and cannot be unregistered
    */
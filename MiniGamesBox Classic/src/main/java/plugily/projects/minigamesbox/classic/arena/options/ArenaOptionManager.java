@@ -20,12 +20,14 @@
 package plugily.projects.minigamesbox.classic.arena.options;
 
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
 import plugily.projects.minigamesbox.classic.PluginMain;
 import plugily.projects.minigamesbox.classic.arena.PluginArena;
 import plugily.projects.minigamesbox.classic.handlers.placeholder.Placeholder;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -36,7 +38,10 @@ import java.util.Map;
 public class ArenaOptionManager {
 
   private final PluginMain plugin;
-  private final Map<String, ArenaOption> arenaOptions = new HashMap<>();
+  private final Map<String, ArenaOption> arenaOptions = new LinkedHashMap<>();
+  //slot ids are never reused so values of unregistered options simply stay unused
+  private ArenaOption[] optionsBySlot = new ArenaOption[8];
+  private int slotCount;
 
 
   public ArenaOptionManager(PluginMain plugin) {
@@ -46,21 +51,22 @@ public class ArenaOptionManager {
 
   private void loadArenaOptions() {
     ArenaOption.getOptions().forEach((s, option) -> {
-      arenaOptions.put(s, new ArenaOption(option.getPath(), option.getValue(), option.isProtected()));
+      addArenaOption(s, option);
       loadExternals(s);
     });
   }
 
   private void loadExternals(String key) {
+    int slot = getSlot(key);
     plugin.getPlaceholderManager().registerPlaceholder(new Placeholder("option_" + key.toLowerCase(), Placeholder.PlaceholderType.ARENA, Placeholder.PlaceholderExecutor.ALL) {
       @Override
       public String getValue(Player player, PluginArena arena) {
-        return String.valueOf(arena.getArenaOption(key));
+        return String.valueOf(arena.getArenaOption(slot));
       }
 
       @Override
       public String getValue(PluginArena arena) {
-        return String.valueOf(arena.getArenaOption(key));
+        return String.valueOf(arena.getArenaOption(slot));
       }
     });
   }
@@ -76,10 +82,19 @@ public class ArenaOptionManager {
     if(arenaOptions.containsKey(name)) {
       throw new IllegalStateException("Arena option with path " + name + " was already registered");
     }
-    arenaOptions.put(name, new ArenaOption(option.getPath(), option.getValue(), option.isProtected()));
+    addArenaOption(name, option);
     loadExternals(name);
   }
 
+  private void addArenaOption(String name, ArenaOption option) {
+    if(slotCount == optionsBySlot.length) {
+      optionsBySlot = Arrays.copyOf(optionsBySlot, slotCount * 2);
+    }
+    ArenaOption registered = new ArenaOption(option.getPath(), option.getValue(), option.isProtected(), slotCount);
+    optionsBySlot[slotCount++] = registered;
+    arenaOptions.put(name, registered);
+  }
+
   /**
    * Remove arena options that are not protected
    *
@@ -94,6 +109,45 @@ public class ArenaOptionManager {
       throw new IllegalStateException("Protected arena option " + name + " cannot be removed!");
     }
     arenaOptions.remove(name);
+    optionsBySlot[option.getSlot()] = null;
+  }
+
+  /**
+   * Get the slot id of an arena option, use it with the int based
+   * arena option methods to avoid string lookups in often called code
+   *
+   * @param name The name of the arena option
+   * @return slot id or -1 if no option with this name is registered
+   */
+  public int getSlot(String name) {
+    ArenaOption option = arenaOptions.get(name);
+    return option == null ? -1 : option.getSlot();
+  }
+
+  /**
+   * @return amount of slots that were handed out, size of the per arena value array
+   */
+  public int getSlotCount() {
+    return slotCount;
+  }
+
+  @Nullable
+  public ArenaOption getArenaOption(int slot) {
+    return slot < 0 || slot >= slotCount ? null : optionsBySlot[slot];
+  }
+
+  /**
+   * @return new array filled with the default values of all slots
+   */
+  public int[] createDefaultValues() {
+    int[] values = new int[slotCount];
+    for(int slot = 0; slot < slotCount; slot++) {
+      ArenaOption option = optionsBySlot[slot];
+      if(option != null) {
+        values[slot] = option.getValue();
+      }
+    }
+    return values;
   }
 
   public Map<String, ArenaOption> getArenaOptions() {
@@ -29,6 +29,7 @@ import plugily.projects.minigamesbox.classic.commands.arguments.data.CommandArgu
 import plugily.projects.minigamesbox.classic.commands.arguments.data.LabelData;
 import plugily.projects.minigamesbox.classic.commands.arguments.data.LabeledCommandArgument;
 import plugily.projects.minigamesbox.classic.handlers.language.MessageBuilder;
+import plugily.projects.minigamesbox.classic.utils.configuration.ConfigUtils;
 import plugily.projects.minigamesbox.classic.utils.serialization.InventorySerializer;
 
 import java.util.HashSet;
@@ -56,6 +57,7 @@ public class ReloadArgument {
         }
         confirmations.remove(sender);
 
+        ConfigUtils.invalidateCache(registry.getPlugin());
         registry.getPlugin().reloadConfig();
         registry.getPlugin().getLanguageManager().reloadLanguage();
 
@@ -18,23 +18,13 @@
  */
 package plugily.projects.minigamesbox.classic.commands.arguments.game;
 
-import com.cryptomorin.xseries.XMaterial;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
-import plugily.projects.minigamesbox.classic.arena.PluginArena;
 import plugily.projects.minigamesbox.classic.commands.arguments.PluginArgumentsRegistry;
 import plugily.projects.minigamesbox.classic.commands.arguments.data.CommandArgument;
 import plugily.projects.minigamesbox.classic.commands.arguments.data.LabelData;
 import plugily.projects.minigamesbox.classic.commands.arguments.data.LabeledCommandArgument;
 import plugily.projects.minigamesbox.classic.handlers.language.MessageBuilder;
-import plugily.projects.minigamesbox.classic.utils.misc.complement.ComplementAccessor;
-import plugily.projects.minigamesbox.inventory.common.item.SimpleClickableItem;
-import plugily.projects.minigamesbox.inventory.normal.NormalFastInv;
-
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * @author Tigerpanzer_02
@@ -54,31 +44,7 @@ public class ArenaSelectorArgument {
           return;
         }
 
-        NormalFastInv arenaSelector = new NormalFastInv(registry.getPlugin().getArenaRegistry().getArenas().size(), new MessageBuilder("ARENA_SELECTOR_INVENTORY_TITLE").asKey().build());
-
-        for(PluginArena arena : registry.getPlugin().getArenaRegistry().getArenas()) {
-          ItemStack itemStack = XMaterial.matchXMaterial(registry.getPlugin().getConfig().getString("Arena-Selector.State-Item." + arena.getArenaState().getFormattedName(), "YELLOW_WOOL").toUpperCase()).orElse(XMaterial.YELLOW_WOOL).parseItem();
-          if(itemStack == null) {
-            continue;
-          }
-          ItemMeta itemMeta = itemStack.getItemMeta();
-          if(itemMeta == null) {
-            continue;
-          }
-          ComplementAccessor.getComplement().setDisplayName(itemMeta, new MessageBuilder("ARENA_SELECTOR_ITEM_NAME").asKey().arena(arena).player(player).build());
-          List<String> lore = new ArrayList<>();
-          for(String description : registry.getPlugin().getLanguageManager().getLanguageList("Arena-Selector.Item.Lore")) {
-            lore.add(new MessageBuilder(description).arena(arena).player(player).build());
-          }
-          ComplementAccessor.getComplement().setLore(itemMeta, lore);
-          itemStack.setItemMeta(itemMeta);
-
-          arenaSelector.addItem(new SimpleClickableItem(itemStack, event -> {
-            registry.getPlugin().getArenaManager().joinAttempt(player, arena);
-            player.closeInventory();
-          }));
-        }
-        arenaSelector.open(player);
+        registry.getPlugin().getArenaSelectorManager().open(player);
       }
     });
   }
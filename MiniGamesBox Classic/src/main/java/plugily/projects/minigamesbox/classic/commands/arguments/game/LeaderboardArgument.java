@@ -20,15 +20,20 @@
 package plugily.projects.minigamesbox.classic.commands.arguments.game;
 
 import org.apache.commons.lang.StringUtils;
+import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import plugily.projects.minigamesbox.classic.api.StatisticType;
 import plugily.projects.minigamesbox.classic.commands.arguments.PluginArgumentsRegistry;
 import plugily.projects.minigamesbox.classic.commands.arguments.data.CommandArgument;
 import plugily.projects.minigamesbox.classic.commands.completion.CompletableArgument;
 import plugily.projects.minigamesbox.classic.handlers.language.MessageBuilder;
+import plugily.projects.minigamesbox.classic.user.data.MysqlManager;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -67,21 +72,44 @@ public class LeaderboardArgument {
     });
   }
 
+  /**
+   * Loads the best players of the statistic and prints them to the sender.
+   * MySQL is queried off the main thread, file statistics are read on the main thread
+   * as their configuration is written there as well.
+   *
+   * @param sender        sender to print the leaderboard to
+   * @param statisticType statistic to print
+   */
   private void printLeaderboard(CommandSender sender, StatisticType statisticType) {
-    java.util.Map<UUID, Integer> stats = registry.getPlugin().getStatsStorage().getStats(statisticType);
+    if(!(registry.getPlugin().getUserManager().getDatabase() instanceof MysqlManager)) {
+      sendLeaderboard(sender, statisticType, loadTop(statisticType));
+      return;
+    }
+    Bukkit.getScheduler().runTaskAsynchronously(registry.getPlugin(), () -> {
+      List<Map.Entry<String, Integer>> top = loadTop(statisticType);
+      Bukkit.getScheduler().runTask(registry.getPlugin(), () -> sendLeaderboard(sender, statisticType, top));
+    });
+  }
+
+  private List<Map.Entry<String, Integer>> loadTop(StatisticType statisticType) {
+    List<Map.Entry<String, Integer>> top = new ArrayList<>();
+    for(Map.Entry<UUID, Integer> entry : registry.getPlugin().getStatsStorage().getTop(statisticType, 10).entrySet()) {
+      String name = registry.getPlugin().getUserManager().getDatabase().getPlayerName(entry.getKey());
+      top.add(new AbstractMap.SimpleEntry<>(name == null ? "Unknown Player" : name, entry.getValue()));
+    }
+    return top;
+  }
+
+  private void sendLeaderboard(CommandSender sender, StatisticType statisticType, List<Map.Entry<String, Integer>> stats) {
     new MessageBuilder("LEADERBOARD_TYPE_CHAT_TOP_HEADER").asKey().send(sender);
     String statistic = StringUtils.capitalize(statisticType.getName().toLowerCase().replace('_', ' '));
-    UUID[] array = stats.keySet().toArray(new UUID[0]);
+    Iterator<Map.Entry<String, Integer>> top = stats.iterator();
     for(int position = 1; position <= 10; position++) {
-      if(array.length - position < 0) {
+      if(!top.hasNext()) {
         sender.sendMessage(formatMessage(statistic, "Empty", position, 0));
       } else {
-        UUID current = array[array.length - position];
-        String name = registry.getPlugin().getUserManager().getDatabase().getPlayerName(current);
-        if(name == null) {
-          name = "Unknown Player";
-        }
-        sender.sendMessage(formatMessage(statistic, name, position, stats.get(current)));
+        Map.Entry<String, Integer> current = top.next();
+        sender.sendMessage(formatMessage(statistic, current.getKey(), position, current.getValue()));
       }
     }
   }
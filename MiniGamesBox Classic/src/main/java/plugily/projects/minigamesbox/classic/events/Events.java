@@ -20,7 +20,6 @@
 package plugily.projects.minigamesbox.classic.events;
 
 import com.cryptomorin.xseries.XMaterial;
-import org.bukkit.Location;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.ItemFrame;
 import org.bukkit.entity.LivingEntity;
@@ -57,6 +56,10 @@ import plugily.projects.minigamesbox.classic.utils.version.events.api.PlugilyPla
  */
 public class Events implements Listener {
 
+  //distance to the arena start locations in which natural spawns, leaf decay and explosion damage are prevented
+  private static final double NATURAL_PROTECTION_RADIUS = 150;
+  private static final double EXPLOSION_PROTECTION_RADIUS = 300;
+
   private final PluginMain plugin;
 
   public Events(PluginMain plugin) {
@@ -78,33 +81,25 @@ public class Events implements Listener {
       return;
     }
 
-    for(PluginArena arena : plugin.getArenaRegistry().getArenas()) {
-      Location startLoc = arena.getStartLocation();
-
-      if(startLoc != null && event.getEntity().getWorld().equals(startLoc.getWorld())
-          && event.getEntity().getLocation().distance(startLoc) < 150) {
-        event.setCancelled(true);
-        break;
-      }
+    if(plugin.getArenaRegistry().getRegionIndex(NATURAL_PROTECTION_RADIUS).isNearArena(event.getLocation())) {
+      event.setCancelled(true);
     }
   }
 
 
   @EventHandler
   public void onDrop(PlayerDropItemEvent event) {
-    if(plugin.getArenaRegistry().getArena(event.getPlayer()) != null && (plugin.getUserManager().getUser(event.getPlayer()).isSpectator())) {
+    PluginArena arena = plugin.getArenaRegistry().getArena(event.getPlayer());
+    //players may only drop items while the game is running, spectators never
+    if(arena != null && (arena.getArenaState() != ArenaState.IN_GAME || plugin.getUserManager().isSpectator(event.getPlayer()))) {
       event.setCancelled(true);
     }
   }
 
   @EventHandler
   public void onExplosionCancel(EntityExplodeEvent event) {
-    for(PluginArena arena : plugin.getArenaRegistry().getArenas()) {
-      Location start = arena.getStartLocation();
-      if(start.getWorld().getName().equals(event.getLocation().getWorld().getName())
-          && start.distance(event.getLocation()) < 300) {
-        event.blockList().clear();
-      }
+    if(plugin.getArenaRegistry().getRegionIndex(EXPLOSION_PROTECTION_RADIUS).isNearArena(event.getLocation())) {
+      event.blockList().clear();
     }
   }
 
@@ -166,13 +161,8 @@ public class Events implements Listener {
 
   @EventHandler
   public void onDecay(LeavesDecayEvent event) {
-    for(PluginArena arena : plugin.getArenaRegistry().getArenas()) {
-      Location startLoc = arena.getStartLocation();
-
-      if(startLoc != null && event.getBlock().getWorld().equals(startLoc.getWorld()) && event.getBlock().getLocation().distance(startLoc) < 150) {
-        event.setCancelled(true);
-        break;
-      }
+    if(plugin.getArenaRegistry().getRegionIndex(NATURAL_PROTECTION_RADIUS).isNearArena(event.getBlock().getLocation())) {
+      event.setCancelled(true);
     }
   }
 
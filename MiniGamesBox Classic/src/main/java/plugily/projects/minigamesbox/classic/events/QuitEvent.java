@@ -26,7 +26,6 @@ import org.bukkit.event.player.PlayerQuitEvent;
 import plugily.projects.minigamesbox.classic.PluginMain;
 import plugily.projects.minigamesbox.classic.arena.PluginArena;
 import plugily.projects.minigamesbox.classic.handlers.items.SpecialItem;
-import plugily.projects.minigamesbox.classic.user.User;
 
 /**
  * @author Tigerpanzer_02
@@ -60,9 +59,7 @@ public class QuitEvent implements Listener {
     if (arena != null) {
       plugin.getArenaManager().leaveAttempt(player, arena);
     }
-    User user = plugin.getUserManager().getUser(player);
-    plugin.getUserManager().saveAllStatistic(user);
-    plugin.getUserManager().removeUser(user);
+    plugin.getUserManager().unloadUser(player);
 
     plugin.getArgumentsRegistry().getSpyChat().disableSpyChat(player);
   }
@@ -28,6 +28,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
@@ -45,7 +46,6 @@ import org.bukkit.event.player.PlayerExpChangeEvent;
 import org.bukkit.event.player.PlayerItemConsumeEvent;
 import org.bukkit.event.player.PlayerShearEntityEvent;
 import plugily.projects.minigamesbox.classic.PluginMain;
-import plugily.projects.minigamesbox.classic.arena.ArenaState;
 import plugily.projects.minigamesbox.classic.arena.PluginArena;
 import plugily.projects.minigamesbox.classic.utils.version.VersionUtils;
 import plugily.projects.minigamesbox.classic.utils.version.events.api.PlugilyEntityPickupItemEvent;
@@ -61,15 +61,38 @@ import plugily.projects.minigamesbox.classic.utils.version.events.api.PlugilyPla
 public class SpectatorEvents implements Listener {
 
   private final PluginMain plugin;
+  private boolean registered = false;
 
   public SpectatorEvents(PluginMain plugin) {
     this.plugin = plugin;
-    plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    updateRegistration();
+  }
+
+  /**
+   * Registers the listener while at least one player is a spectator and unregisters it
+   * afterwards, so server-wide events like mob targeting cost nothing without spectators
+   */
+  public void updateRegistration() {
+    if(!Bukkit.isPrimaryThread()) {
+      Bukkit.getScheduler().runTask(plugin, this::updateRegistration);
+      return;
+    }
+    boolean register = plugin.getUserManager().hasSpectators();
+    if(register == registered) {
+      return;
+    }
+    registered = register;
+    if(register) {
+      plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    } else {
+      HandlerList.unregisterAll(this);
+    }
+    plugin.getDebugger().debug("Spectator listeners {0}", register ? "registered" : "unregistered");
   }
 
   @EventHandler(priority = EventPriority.HIGHEST)
   public void onSpectatorTarget(EntityTargetEvent event) {
-    if(event.getTarget() instanceof Player && plugin.getUserManager().getUser((Player) event.getTarget()).isSpectator()) {
+    if(event.getTarget() instanceof Player && plugin.getUserManager().isSpectator((Player) event.getTarget())) {
       event.setCancelled(true);
       event.setTarget(null);
     }
@@ -77,7 +100,7 @@ public class SpectatorEvents implements Listener {
 
   @EventHandler(priority = EventPriority.HIGHEST)
   public void onSpectatorTarget(EntityTargetLivingEntityEvent event) {
-    if(event.getTarget() instanceof Player && plugin.getUserManager().getUser((Player) event.getTarget()).isSpectator()) {
+    if(event.getTarget() instanceof Player && plugin.getUserManager().isSpectator((Player) event.getTarget())) {
       event.setCancelled(true);
       event.setTarget(null);
     }
@@ -85,56 +108,56 @@ public class SpectatorEvents implements Listener {
 
   @EventHandler(priority = EventPriority.HIGH)
   public void onBlockPlace(BlockPlaceEvent event) {
-    if(plugin.getUserManager().getUser(event.getPlayer()).isSpectator()) {
+    if(plugin.getUserManager().isSpectator(event.getPlayer())) {
       event.setCancelled(true);
     }
   }
 
   @EventHandler(priority = EventPriority.HIGH)
   public void onBlockBreak(BlockBreakEvent event) {
-    if(plugin.getUserManager().getUser(event.getPlayer()).isSpectator()) {
+    if(plugin.getUserManager().isSpectator(event.getPlayer())) {
       event.setCancelled(true);
     }
   }
 
   @EventHandler(priority = EventPriority.HIGH)
   public void onDropItem(PlayerDropItemEvent event) {
-    if(plugin.getUserManager().getUser(event.getPlayer()).isSpectator()) {
+    if(plugin.getUserManager().isSpectator(event.getPlayer())) {
       event.setCancelled(true);
     }
   }
 
   @EventHandler(priority = EventPriority.HIGH)
   public void onBucketEmpty(PlayerBucketEmptyEvent event) {
-    if(plugin.getUserManager().getUser(event.getPlayer()).isSpectator()) {
+    if(plugin.getUserManager().isSpectator(event.getPlayer())) {
       event.setCancelled(true);
     }
   }
 
   @EventHandler(priority = EventPriority.HIGH)
   public void onInteract(PlugilyPlayerInteractEntityEvent event) {
-    if(plugin.getUserManager().getUser(event.getPlayer()).isSpectator()) {
+    if(plugin.getUserManager().isSpectator(event.getPlayer())) {
       event.setCancelled(true);
     }
   }
 
   @EventHandler(priority = EventPriority.HIGH)
   public void onShear(PlayerShearEntityEvent event) {
-    if(plugin.getUserManager().getUser(event.getPlayer()).isSpectator()) {
+    if(plugin.getUserManager().isSpectator(event.getPlayer())) {
       event.setCancelled(true);
     }
   }
 
   @EventHandler(priority = EventPriority.HIGH)
   public void onConsume(PlayerItemConsumeEvent event) {
-    if(plugin.getUserManager().getUser(event.getPlayer()).isSpectator()) {
+    if(plugin.getUserManager().isSpectator(event.getPlayer())) {
       event.setCancelled(true);
     }
   }
 
   @EventHandler(priority = EventPriority.HIGH)
   public void onFoodLevelChange(FoodLevelChangeEvent event) {
-    if(event.getEntity() instanceof Player && plugin.getUserManager().getUser((Player) event.getEntity()).isSpectator()) {
+    if(event.getEntity() instanceof Player && plugin.getUserManager().isSpectator((Player) event.getEntity())) {
       event.setFoodLevel(20);
       event.setCancelled(true);
     }
@@ -146,7 +169,7 @@ public class SpectatorEvents implements Listener {
       return;
     }
     Player player = (Player) event.getEntity();
-    if(!plugin.getUserManager().getUser(player).isSpectator()) {
+    if(!plugin.getUserManager().isSpectator(player)) {
       return;
     }
     PluginArena arena = plugin.getArenaRegistry().getArena(player);
@@ -162,28 +185,28 @@ public class SpectatorEvents implements Listener {
 
   @EventHandler(priority = EventPriority.HIGHEST)
   public void onDamageByBlock(EntityDamageByBlockEvent event) {
-    if(event.getEntity() instanceof Player && plugin.getUserManager().getUser((Player) event.getEntity()).isSpectator()) {
+    if(event.getEntity() instanceof Player && plugin.getUserManager().isSpectator((Player) event.getEntity())) {
       event.setCancelled(true);
     }
   }
 
   @EventHandler(priority = EventPriority.HIGHEST)
   public void onDamageByEntity(EntityDamageByEntityEvent event) {
-    if(event.getDamager() instanceof Player && plugin.getUserManager().getUser((Player) event.getDamager()).isSpectator()) {
+    if(event.getDamager() instanceof Player && plugin.getUserManager().isSpectator((Player) event.getDamager())) {
       event.setCancelled(true);
     }
   }
 
   @EventHandler(priority = EventPriority.HIGHEST)
   public void onPickup(PlugilyEntityPickupItemEvent event) {
-    if(event.getEntity() instanceof Player && plugin.getUserManager().getUser((Player) event.getEntity()).isSpectator()) {
+    if(event.getEntity() instanceof Player && plugin.getUserManager().isSpectator((Player) event.getEntity())) {
       event.setCancelled(true);
     }
   }
 
   @EventHandler(priority = EventPriority.HIGHEST)
   public void onArrowPickup(PlugilyPlayerPickupArrow event) {
-    if(plugin.getUserManager().getUser(event.getPlayer()).isSpectator()) {
+    if(plugin.getUserManager().isSpectator(event.getPlayer())) {
       event.setCancelled(true);
     }
   }
@@ -191,7 +214,7 @@ public class SpectatorEvents implements Listener {
   //this will spawn orb at spec location when it's taken by spectator
   @EventHandler
   public void onPlayerExpChange(PlayerExpChangeEvent e) {
-    if(plugin.getUserManager().getUser(e.getPlayer()).isSpectator()) {
+    if(plugin.getUserManager().isSpectator(e.getPlayer())) {
       Location loc = e.getPlayer().getLocation();
       e.setAmount(0);
       Bukkit.getScheduler().runTaskLater(plugin, () -> loc.getWorld().spawnEntity(loc, EntityType.EXPERIENCE_ORB), 30);
@@ -200,31 +223,23 @@ public class SpectatorEvents implements Listener {
 
   @EventHandler(priority = EventPriority.HIGHEST)
   public void onTarget(EntityTargetEvent e) {
-    if(e.getTarget() instanceof Player && plugin.getUserManager().getUser((Player) e.getTarget()).isSpectator()
+    if(e.getTarget() instanceof Player && plugin.getUserManager().isSpectator((Player) e.getTarget())
         && (e.getEntity() instanceof ExperienceOrb || e.getEntity() instanceof Creature)) {
       e.setCancelled(true);
       e.setTarget(null);
     }
   }
 
-  @EventHandler
-  public void onSpectate(PlayerDropItemEvent event) {
-    PluginArena arena = plugin.getArenaRegistry().getArena(event.getPlayer());
-    if(arena != null && (arena.getArenaState() != ArenaState.IN_GAME || plugin.getUserManager().getUser(event.getPlayer()).isSpectator())) {
-      event.setCancelled(true);
-    }
-  }
-
   @EventHandler
   public void onInteractEntityInteract(PlugilyPlayerInteractEntityEvent event) {
-    if(plugin.getUserManager().getUser(event.getPlayer()).isSpectator()) {
+    if(plugin.getUserManager().isSpectator(event.getPlayer())) {
       event.setCancelled(true);
     }
   }
 
   @EventHandler
   public void onRightClick(PlugilyPlayerInteractEvent event) {
-    if(plugin.getArenaRegistry().getArena(event.getPlayer()) != null && plugin.getUserManager().getUser(event.getPlayer()).isSpectator()) {
+    if(plugin.getUserManager().isSpectator(event.getPlayer()) && plugin.getArenaRegistry().getArena(event.getPlayer()) != null) {
       event.setCancelled(true);
     }
   }
@@ -233,7 +248,7 @@ public class SpectatorEvents implements Listener {
   public void onInventoryClick(InventoryClickEvent event) {
     org.bukkit.inventory.Inventory clicked = event.getClickedInventory();
     Player who = (Player) event.getWhoClicked();
-    if(clicked != null && clicked.getType() == InventoryType.PLAYER && clicked.getType() == InventoryType.CRAFTING && plugin.getArenaRegistry().getArena(who) != null && plugin.getUserManager().getUser(who).isSpectator()) {
+    if(clicked != null && clicked.getType() == InventoryType.PLAYER && clicked.getType() == InventoryType.CRAFTING && plugin.getUserManager().isSpectator(who) && plugin.getArenaRegistry().getArena(who) != null) {
       event.setResult(Event.Result.DENY);
       event.setCancelled(true);
     }
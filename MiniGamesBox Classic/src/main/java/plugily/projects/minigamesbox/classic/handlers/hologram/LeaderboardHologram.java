@@ -31,6 +31,7 @@ import plugily.projects.minigamesbox.classic.utils.hologram.ArmorStandHologram;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -48,6 +49,7 @@ public class LeaderboardHologram {
   private ArmorStandHologram hologram;
   private final Location location;
   private final String header;
+  private LeaderboardStatistic leaderboard;
 
   public LeaderboardHologram(PluginMain plugin, int id, StatisticType statistic, int amount, Location location) {
     this.plugin = plugin;
@@ -59,22 +61,26 @@ public class LeaderboardHologram {
     this.header = new MessageBuilder("LEADERBOARD_TYPE_HOLOGRAM_HEADER").asKey().integer(topAmount).value(new MessageBuilder(statisticMessage).build().replace("%number%", "")).build();
     plugin.getDebugger().debug("Loaded ArmorStand {0} with header {1}", id, header);
     this.hologram = new ArmorStandHologram(location, header);
-    updateHologram();
   }
 
+  /**
+   * Redraws the hologram from the leaderboard of its statistic.
+   * Does nothing until the hologram got registered in the {@link LeaderboardRegistry}
+   */
   public void updateHologram() {
-    java.util.Map<UUID, Integer> values = plugin.getStatsStorage().getStats(statistic);
-    List<UUID> reverseKeys = new ArrayList<>(values.keySet());
-    Collections.reverse(reverseKeys);
+    if(leaderboard == null || hologram == null) {
+      return;
+    }
+    List<Map.Entry<UUID, Integer>> top = leaderboard.getTop(topAmount);
 
     List<String> update = new ArrayList<>(Collections.singletonList(header));
 
     for(int i = 0; i < topAmount; i++) {
       String text;
-      if(i < reverseKeys.size()) {
-        UUID uuid = reverseKeys.get(i);
-        text = new MessageBuilder("LEADERBOARD_TYPE_HOLOGRAM_FORMAT").asKey().integer(i + 1).value(String.valueOf(values.get(uuid))).build();
-        text = StringUtils.replace(text, "%player%", getPlayerNameSafely(uuid));
+      if(i < top.size()) {
+        Map.Entry<UUID, Integer> entry = top.get(i);
+        text = new MessageBuilder("LEADERBOARD_TYPE_HOLOGRAM_FORMAT").asKey().integer(i + 1).value(String.valueOf(entry.getValue())).build();
+        text = StringUtils.replace(text, "%player%", getPlayerNameSafely(entry.getKey()));
       } else {
         text = new MessageBuilder("LEADERBOARD_TYPE_HOLOGRAM_EMPTY_FORMAT").asKey().integer(i + 1).build();
       }
@@ -85,15 +91,25 @@ public class LeaderboardHologram {
   }
 
   public void delete() {
-    hologram.delete();
+    if(hologram != null) {
+      hologram.delete();
+    }
     this.hologram = null;
   }
 
   private String getPlayerNameSafely(UUID uuid) {
-    String name = plugin.getUserManager().getDatabase().getPlayerName(uuid);
+    String name = leaderboard.getPlayerName(uuid);
     return name != null ? name : new MessageBuilder("LEADERBOARD_UNKNOWN_PLAYER").asKey().build();
   }
 
+  void setLeaderboard(LeaderboardStatistic leaderboard) {
+    this.leaderboard = leaderboard;
+  }
+
+  public LeaderboardStatistic getLeaderboard() {
+    return leaderboard;
+  }
+
   private Message statisticToMessage() {
     return plugin.getMessageManager().getMessage("LEADERBOARD_STATISTICS_" + statistic.getName().toUpperCase());
   }
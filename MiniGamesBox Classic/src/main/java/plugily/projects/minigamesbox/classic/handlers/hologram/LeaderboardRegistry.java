@@ -20,16 +20,27 @@
 
 package plugily.projects.minigamesbox.classic.handlers.hologram;
 
+import org.bukkit.Bukkit;
 import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
+import org.bukkit.scheduler.BukkitTask;
 import plugily.projects.minigamesbox.classic.PluginMain;
+import plugily.projects.minigamesbox.classic.api.StatisticType;
 import plugily.projects.minigamesbox.classic.api.event.player.PlugilyPlayerStatisticChangeEvent;
+import plugily.projects.minigamesbox.classic.user.data.MysqlManager;
 import plugily.projects.minigamesbox.classic.utils.configuration.ConfigUtils;
 import plugily.projects.minigamesbox.classic.utils.serialization.LocationSerializer;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Tigerpanzer_02
@@ -38,13 +49,24 @@ import java.util.List;
  */
 public class LeaderboardRegistry implements Listener {
 
+  //entries kept above the biggest hologram so players dropping out of the top can be replaced
+  private static final int LEADERBOARD_BUFFER = 16;
+  private static final long REDRAW_DELAY = 20L;
+  private static final long RESEED_INTERVAL = 20L * 60 * 5;
+
   private final List<LeaderboardHologram> leaderboardHolograms = new ArrayList<>();
+  private final Map<StatisticType, LeaderboardStatistic> leaderboards = new HashMap<>();
+  private final Map<UUID, String> playerNames = new ConcurrentHashMap<>();
+  private final Set<StatisticType> pendingRedraws = new HashSet<>();
   private final PluginMain plugin;
+  private final BukkitTask reseedTask;
+  private BukkitTask redrawTask;
 
   public LeaderboardRegistry(PluginMain plugin) {
     this.plugin = plugin;
     registerHolograms();
     plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    reseedTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> leaderboards.keySet().forEach(this::seedLeaderboard), RESEED_INTERVAL, RESEED_INTERVAL);
   }
 
   private void registerHolograms() {
@@ -69,11 +91,106 @@ public class LeaderboardRegistry implements Listener {
 
   @EventHandler
   public void onStatisticUpdate(PlugilyPlayerStatisticChangeEvent event) {
-    leaderboardHolograms.stream().filter(leaderboardHologram -> event.getStatisticType() == leaderboardHologram.getStatistic()).forEach(LeaderboardHologram::updateHologram);
+    LeaderboardStatistic leaderboard = leaderboards.get(event.getStatisticType());
+    if(leaderboard == null) {
+      return;
+    }
+    Player player = event.getPlayer();
+    playerNames.put(player.getUniqueId(), player.getName());
+    if(leaderboard.update(player.getUniqueId(), event.getNumber())) {
+      scheduleRedraw(event.getStatisticType());
+    }
   }
 
   public void registerHologram(LeaderboardHologram hologram) {
     leaderboardHolograms.add(hologram);
+    LeaderboardStatistic leaderboard = leaderboards.get(hologram.getStatistic());
+    int capacity = hologram.getTopAmount() + LEADERBOARD_BUFFER;
+    if(leaderboard == null) {
+      leaderboard = new LeaderboardStatistic(hologram.getStatistic(), playerNames, capacity);
+      leaderboards.put(hologram.getStatistic(), leaderboard);
+      hologram.setLeaderboard(leaderboard);
+      seedLeaderboard(hologram.getStatistic());
+      return;
+    }
+    if(leaderboard.getCapacity() < capacity) {
+      leaderboard.setCapacity(capacity);
+      hologram.setLeaderboard(leaderboard);
+      seedLeaderboard(hologram.getStatistic());
+      return;
+    }
+    hologram.setLeaderboard(leaderboard);
+    hologram.updateHologram();
+  }
+
+  /**
+   * Loads the best players of the statistic and resolves their names before the leaderboard is replaced.
+   * MySQL is queried off the main thread, file statistics are read on the main thread
+   * as their configuration is written there as well.
+   *
+   * @param statistic statistic to load
+   */
+  private void seedLeaderboard(StatisticType statistic) {
+    LeaderboardStatistic leaderboard = leaderboards.get(statistic);
+    if(leaderboard == null) {
+      return;
+    }
+    int capacity = leaderboard.getCapacity();
+    if(!(plugin.getUserManager().getDatabase() instanceof MysqlManager)) {
+      Map<UUID, String> names = new HashMap<>();
+      applySeed(leaderboard, loadTop(statistic, capacity, names), names);
+      return;
+    }
+    Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+      Map<UUID, String> names = new HashMap<>();
+      Map<UUID, Integer> top = loadTop(statistic, capacity, names);
+      Bukkit.getScheduler().runTask(plugin, () -> applySeed(leaderboard, top, names));
+    });
+  }
+
+  private Map<UUID, Integer> loadTop(StatisticType statistic, int capacity, Map<UUID, String> names) {
+    Map<UUID, Integer> top = plugin.getStatsStorage().getTop(statistic, capacity);
+    for(UUID uuid : top.keySet()) {
+      if(!playerNames.containsKey(uuid)) {
+        String name = plugin.getUserManager().getDatabase().getPlayerName(uuid);
+        if(name != null) {
+          names.put(uuid, name);
+        }
+      }
+    }
+    return top;
+  }
+
+  private void applySeed(LeaderboardStatistic leaderboard, Map<UUID, Integer> top, Map<UUID, String> names) {
+    StatisticType statistic = leaderboard.getStatistic();
+    playerNames.putAll(names);
+    leaderboard.seed(top);
+    //values of online players are newer than the ones that were loaded
+    for(Player player : Bukkit.getOnlinePlayers()) {
+      playerNames.put(player.getUniqueId(), player.getName());
+      leaderboard.update(player.getUniqueId(), plugin.getUserManager().getUser(player).getStatistic(statistic));
+    }
+    //names are only needed while the player is listed on any leaderboard
+    playerNames.keySet().removeIf(uuid -> leaderboards.values().stream().noneMatch(board -> board.contains(uuid)));
+    plugin.getDebugger().debug("Seeded leaderboard {0} with {1} entries", statistic.getName(), top.size());
+    scheduleRedraw(statistic);
+  }
+
+  private void scheduleRedraw(StatisticType statistic) {
+    pendingRedraws.add(statistic);
+    if(redrawTask != null) {
+      return;
+    }
+    //bursts of statistic changes are drawn once
+    redrawTask = Bukkit.getScheduler().runTaskLater(plugin, () -> {
+      redrawTask = null;
+      for(LeaderboardHologram hologram : leaderboardHolograms) {
+        if(pendingRedraws.contains(hologram.getStatistic())) {
+          hologram.updateHologram();
+        }
+      }
+      pendingRedraws.clear();
+    }, REDRAW_DELAY);
   }
 
   public void disableHologram(int id) {
@@ -90,6 +207,11 @@ public class LeaderboardRegistry implements Listener {
   }
 
   public void disableHolograms() {
+    reseedTask.cancel();
+    if(redrawTask != null) {
+      redrawTask.cancel();
+      redrawTask = null;
+    }
     if(leaderboardHolograms.isEmpty()) {
       return;
     }
@@ -0,0 +1,146 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.classic.handlers.hologram;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import plugily.projects.minigamesbox.classic.api.StatisticType;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * In memory top list of one statistic, seeded from the database
+ * and kept up to date from statistic changes of online players.
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+public class LeaderboardStatistic {
+
+  private final StatisticType statistic;
+  private final Map<UUID, Integer> values = new HashMap<>();
+  //highest value first, uuid as tie breaker to keep entries with the same value
+  private final TreeSet<UUID> ranking = new TreeSet<>((first, second) -> compare(values.get(first), first, values.get(second), second));
+  private final Map<UUID, String> playerNames;
+  private int capacity;
+
+  public LeaderboardStatistic(StatisticType statistic, Map<UUID, String> playerNames, int capacity) {
+    this.statistic = statistic;
+    this.playerNames = playerNames;
+    this.capacity = Math.max(1, capacity);
+  }
+
+  private static int compare(int firstValue, UUID first, int secondValue, UUID second) {
+    int compare = Integer.compare(secondValue, firstValue);
+    return compare != 0 ? compare : first.compareTo(second);
+  }
+
+  /**
+   * Updates the value of the player
+   *
+   * @param uuid  uuid of the player
+   * @param value new statistic value
+   * @return true if the ranking has changed
+   */
+  public boolean update(@NotNull UUID uuid, int value) {
+    Integer oldValue = values.get(uuid);
+    if(oldValue != null) {
+      if(oldValue == value) {
+        return false;
+      }
+      ranking.remove(uuid);
+    } else if(ranking.size() >= capacity) {
+      UUID last = ranking.last();
+      if(compare(value, uuid, values.get(last), last) > 0) {
+        return false;
+      }
+    }
+    values.put(uuid, value);
+    ranking.add(uuid);
+    trim();
+    return true;
+  }
+
+  /**
+   * Replaces all entries with the entries loaded from the database
+   *
+   * @param entries statistic values of the best players
+   */
+  public void seed(@NotNull Map<UUID, Integer> entries) {
+    ranking.clear();
+    values.clear();
+    for(Map.Entry<UUID, Integer> entry : entries.entrySet()) {
+      values.put(entry.getKey(), entry.getValue());
+      ranking.add(entry.getKey());
+    }
+    trim();
+  }
+
+  private void trim() {
+    while(ranking.size() > capacity) {
+      values.remove(ranking.pollLast());
+    }
+  }
+
+  /**
+   * @param amount maximum amount of entries
+   * @return best entries with the highest value first
+   */
+  @NotNull
+  public List<Map.Entry<UUID, Integer>> getTop(int amount) {
+    List<Map.Entry<UUID, Integer>> top = new ArrayList<>(Math.min(amount, ranking.size()));
+    for(UUID uuid : ranking) {
+      if(top.size() >= amount) {
+        break;
+      }
+      top.add(new AbstractMap.SimpleImmutableEntry<>(uuid, values.get(uuid)));
+    }
+    return top;
+  }
+
+  public boolean contains(UUID uuid) {
+    return values.containsKey(uuid);
+  }
+
+  @Nullable
+  public String getPlayerName(UUID uuid) {
+    return playerNames.get(uuid);
+  }
+
+  public StatisticType getStatistic() {
+    return statistic;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public void setCapacity(int capacity) {
+    this.capacity = Math.max(1, capacity);
+    trim();
+  }
+}
@@ -24,6 +24,7 @@ import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import plugily.projects.minigamesbox.classic.PluginMain;
+import plugily.projects.minigamesbox.classic.arena.PluginArena;
 import plugily.projects.minigamesbox.classic.utils.configuration.ConfigUtils;
 import plugily.projects.minigamesbox.classic.utils.services.ServiceRegistry;
 import plugily.projects.minigamesbox.classic.utils.services.locale.Locale;
@@ -244,6 +245,20 @@ public class LanguageManager {
 
   public void reloadLanguage() {
     languageConfig = ConfigUtils.getConfig(plugin, "language");
+    MessageBuilder.reload();
+    if(plugin.getActionBarManager() != null) {
+      plugin.getActionBarManager().clearFlashingFrames();
+    }
+    if(plugin.getArenaRegistry() != null) {
+      for(PluginArena arena : plugin.getArenaRegistry().getArenas()) {
+        if(arena.getScoreboardManager() != null) {
+          arena.getScoreboardManager().reloadContent();
+        }
+      }
+    }
+    if(plugin.getArenaSelectorManager() != null) {
+      plugin.getArenaSelectorManager().reload();
+    }
   }
 
   public Locale getPluginLocale() {
@@ -25,6 +25,7 @@ import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
 import plugily.projects.commonsbox.string.StringFormatUtils;
 import plugily.projects.minigamesbox.classic.PluginMain;
 import plugily.projects.minigamesbox.classic.arena.PluginArena;
@@ -32,6 +33,12 @@ import plugily.projects.minigamesbox.classic.handlers.placeholder.Placeholder;
 import plugily.projects.minigamesbox.classic.utils.misc.MiscUtils;
 import plugily.projects.minigamesbox.classic.utils.version.ServerVersion;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
 /**
  * @author Tigerpanzer_02
  * <p>
@@ -39,22 +46,77 @@ import plugily.projects.minigamesbox.classic.utils.version.ServerVersion;
  */
 public class MessageBuilder {
 
-  private String placeholderColorValue = plugin.getLanguageManager().getLanguageMessage(plugin.getMessageManager().getPath("COLOR_PLACEHOLDER_VALUE"));
-  private String placeholderColorNumber = plugin.getLanguageManager().getLanguageMessage(plugin.getMessageManager().getPath("COLOR_PLACEHOLDER_NUMBER"));
-  private String placeholderColorPlayer = plugin.getLanguageManager().getLanguageMessage(plugin.getMessageManager().getPath("COLOR_PLACEHOLDER_PLAYER"));
-  private String placeholderColorOther = plugin.getLanguageManager().getLanguageMessage(plugin.getMessageManager().getPath("COLOR_PLACEHOLDER_OTHER"));
-  private String messageColor = plugin.getLanguageManager().getLanguageMessage(plugin.getMessageManager().getPath("COLOR_CHAT_MESSAGES"));
-  private String messageIssueColor = plugin.getLanguageManager().getLanguageMessage(plugin.getMessageManager().getPath("COLOR_CHAT_ISSUE"));
-  private String messageSpecialCharBefore = plugin.getLanguageManager().getLanguageMessage(plugin.getMessageManager().getPath("COLOR_CHAT_SPECIAL_BEFORE"));
+  //colors are resolved once per language (re)load instead of for every builder
+  private static String defaultPlaceholderColorValue;
+  private static String defaultPlaceholderColorNumber;
+  private static String defaultPlaceholderColorPlayer;
+  private static String defaultPlaceholderColorOther;
+  private static String defaultMessageColor;
+  private static String defaultMessageIssueColor;
+  private static String defaultMessageSpecialCharBefore;
+  private static String pluginPrefix;
+
+  private String placeholderColorValue = defaultPlaceholderColorValue;
+  private String placeholderColorNumber = defaultPlaceholderColorNumber;
+  private String placeholderColorPlayer = defaultPlaceholderColorPlayer;
+  private String placeholderColorOther = defaultPlaceholderColorOther;
+  private String messageColor = defaultMessageColor;
+  private String messageIssueColor = defaultMessageIssueColor;
+  private String messageSpecialCharBefore = defaultMessageSpecialCharBefore;
+  //message color at the time the arguments were set, chat issue color could be applied later on build
+  private String argumentColor = messageColor;
   private String message;
   private Player player;
   private String value;
+  private boolean valueSet = false;
   private int integer;
+  private boolean integerSet = false;
   private PluginArena arena;
   private static PluginMain plugin;
+  //built-in placeholders that resolve without the player, they take precedence over registered placeholders
+  private static final Set<String> PLAYER_INDEPENDENT_PLACEHOLDERS = new HashSet<>(Arrays.asList("color_chat_issue",
+      "plugin_prefix", "plugin_name", "plugin_name_uppercase", "plugin_short_command", "arena_min_players", "arena_players",
+      "arena_players_size", "arena_players_left", "arena_players_left_size", "arena_max_players", "arena_name", "arena_id",
+      "arena_state", "arena_state_formatted", "arena_state_placeholder", "arena_time", "arena_time_formatted"));
 
   public static void init(PluginMain plugin) {
     MessageBuilder.plugin = plugin;
+    reload();
+  }
+
+  /**
+   * Initializes the builder without a language manager
+   *
+   * @param plugin plugin to use
+   * @param colors colors by message name, e.g. COLOR_CHAT_MESSAGES
+   */
+  @TestOnly
+  static void init(PluginMain plugin, Map<String, String> colors) {
+    MessageBuilder.plugin = plugin;
+    reload(colors::get);
+  }
+
+  /**
+   * Reloads the cached colors and drops compiled message templates
+   */
+  static void reload() {
+    reload(MessageBuilder::getColor);
+  }
+
+  private static void reload(Function<String, String> colors) {
+    defaultPlaceholderColorValue = colors.apply("COLOR_PLACEHOLDER_VALUE");
+    defaultPlaceholderColorNumber = colors.apply("COLOR_PLACEHOLDER_NUMBER");
+    defaultPlaceholderColorPlayer = colors.apply("COLOR_PLACEHOLDER_PLAYER");
+    defaultPlaceholderColorOther = colors.apply("COLOR_PLACEHOLDER_OTHER");
+    defaultMessageColor = colors.apply("COLOR_CHAT_MESSAGES");
+    defaultMessageIssueColor = colors.apply("COLOR_CHAT_ISSUE");
+    defaultMessageSpecialCharBefore = colors.apply("COLOR_CHAT_SPECIAL_BEFORE");
+    pluginPrefix = colors.apply("IN_GAME_PLUGIN_PREFIX");
+    MessageTemplate.clearCache();
+  }
+
+  private static String getColor(String key) {
+    return plugin.getLanguageManager().getLanguageMessage(plugin.getMessageManager().getPath(key));
   }
 
   public MessageBuilder(String message) {
@@ -65,6 +127,34 @@ public class MessageBuilder {
     colorChatIssue();
   }
 
+  private MessageBuilder(MessageBuilder other) {
+    this.placeholderColorValue = other.placeholderColorValue;
+    this.placeholderColorNumber = other.placeholderColorNumber;
+    this.placeholderColorPlayer = other.placeholderColorPlayer;
+    this.placeholderColorOther = other.placeholderColorOther;
+    this.messageColor = other.messageColor;
+    this.messageIssueColor = other.messageIssueColor;
+    this.messageSpecialCharBefore = other.messageSpecialCharBefore;
+    this.argumentColor = other.argumentColor;
+    this.message = other.message;
+    this.player = other.player;
+    this.value = other.value;
+    this.valueSet = other.valueSet;
+    this.integer = other.integer;
+    this.integerSet = other.integerSet;
+    this.arena = other.arena;
+  }
+
+  /**
+   * Copies the current state, build changes the message so a builder that
+   * is rendered repeatedly has to be copied before every build
+   *
+   * @return copy of this builder
+   */
+  public MessageBuilder copy() {
+    return new MessageBuilder(this);
+  }
+
   public MessageBuilder(String message, boolean autoColor) {
     if(message == null) {
       message = "";
@@ -117,25 +207,34 @@ public class MessageBuilder {
 
   public MessageBuilder player(Player player) {
     this.player = player;
-    formatPlayer();
+    argumentColor = messageColor;
     return this;
   }
 
+  //like the former direct replacement the first value and integer win, later calls do not change them
   public MessageBuilder value(String value) {
+    if(valueSet) {
+      return this;
+    }
     this.value = value;
-    formatValue();
+    valueSet = true;
+    argumentColor = messageColor;
     return this;
   }
 
   public MessageBuilder integer(int integer) {
+    if(integerSet) {
+      return this;
+    }
     this.integer = integer;
-    formatInteger();
+    integerSet = true;
+    argumentColor = messageColor;
     return this;
   }
 
   public MessageBuilder arena(PluginArena arena) {
     this.arena = arena;
-    formatArena();
+    argumentColor = messageColor;
     return this;
   }
 
@@ -153,70 +252,109 @@ public class MessageBuilder {
     message = ChatColor.translateAlternateColorCodes('&', message);
   }
 
-  private void formatInteger() {
-    message = replace(message, "%number%", () -> placeholderColorNumber + integer + messageColor);
+  private boolean isPlaceholderAPIEnabled() {
+    return plugin.getServer().getPluginManager().isPluginEnabled("PlaceholderAPI");
   }
 
-  private void formatValue() {
-    message = replace(message, "%value%", () -> placeholderColorValue + value + messageColor);
-  }
-
-  private void formatPlayer() {
-    message = replace(message, "%player%", () -> placeholderColorPlayer + player.getName() + messageColor);
-    message = replace(message, "%player_uuid%", () -> placeholderColorPlayer + player.getUniqueId() + messageColor);
-  }
-
-  private void formatPlaceholderAPI() {
-    if(plugin.getServer().getPluginManager().isPluginEnabled("PlaceholderAPI")) {
+  private void formatPlaceholders() {
+    if(isPlaceholderAPIEnabled()) {
+      //PlaceholderAPI has to run between the built-in and the registered placeholders
+      message = MessageTemplate.compile(message).render(this::resolveBuiltInPlaceholder);
       message = PlaceholderAPI.setPlaceholders(player, message);
+      message = MessageTemplate.compile(message).render(this::resolveRegisteredPlaceholder);
+      return;
     }
+    message = MessageTemplate.compile(message).render(this::resolvePlaceholder);
   }
 
-  private void formatExternalPlayer() {
-    for(Placeholder placeholder : plugin.getPlaceholderManager().getRegisteredInternalPlaceholders()) {
-      if(placeholder.getPlaceholderType() != Placeholder.PlaceholderType.ARENA) {
-        message = replace(message, "%" + placeholder.getId() + "%", () -> placeholderColorOther + placeholder.getValue(player) + messageColor);
-      }
-    }
+  private String resolvePlaceholder(String id) {
+    String resolved = resolveBuiltInPlaceholder(id);
+    return resolved != null ? resolved : resolveRegisteredPlaceholder(id);
   }
 
-  private void formatExternalArena() {
-    for(Placeholder placeholder : plugin.getPlaceholderManager().getRegisteredInternalPlaceholders()) {
-      if(placeholder.getPlaceholderType() != Placeholder.PlaceholderType.GLOBAL) {
-        message = replace(message, "%" + placeholder.getId() + "%", () -> placeholderColorOther + placeholder.getValue(arena) + messageColor);
-      }
+  private String resolveRegisteredPlaceholder(String id) {
+    if((player == null && arena == null) || plugin.getPlaceholderManager() == null) {
+      return null;
     }
-  }
-
-  private void formatExternalPlayerAndArena() {
-    for(Placeholder placeholder : plugin.getPlaceholderManager().getRegisteredInternalPlaceholders()) {
-      if(placeholder.getPlaceholderType() != Placeholder.PlaceholderType.GLOBAL) {
-        message = replace(message, "%" + placeholder.getId() + "%", () -> placeholderColorOther + placeholder.getValue(player, arena) + messageColor);
-      }
+    Placeholder placeholder = plugin.getPlaceholderManager().getRegisteredInternalPlaceholder(id);
+    if(placeholder == null) {
+      return null;
+    }
+    if(placeholder.getPlaceholderType() == Placeholder.PlaceholderType.GLOBAL) {
+      return player == null ? null : placeholderColorOther + placeholder.getValue(player) + messageColor;
+    }
+    if(player != null && arena != null) {
+      return placeholderColorOther + placeholder.getValue(player, arena) + messageColor;
+    }
+    return arena == null ? null : placeholderColorOther + placeholder.getValue(arena) + messageColor;
+  }
+
+  /**
+   * Checks if the id is a built-in placeholder that resolves the same for every player
+   *
+   * @param id placeholder id without percent signs
+   * @return true if the value only depends on the plugin or the arena
+   */
+  public static boolean isPlayerIndependentPlaceholder(String id) {
+    return PLAYER_INDEPENDENT_PLACEHOLDERS.contains(id);
+  }
+
+  private String resolveBuiltInPlaceholder(String id) {
+    switch(id) {
+      case "color_chat_issue":
+        return messageIssueColor;
+      case "number":
+        return integerSet ? placeholderColorNumber + integer + argumentColor : null;
+      case "value":
+        return valueSet ? placeholderColorValue + value + argumentColor : null;
+      case "player":
+        return player != null ? placeholderColorPlayer + player.getName() + argumentColor : null;
+      case "player_uuid":
+        return player != null ? placeholderColorPlayer + player.getUniqueId() + argumentColor : null;
+      case "plugin_prefix":
+        return placeholderColorOther + pluginPrefix + messageColor;
+      case "plugin_name":
+        return placeholderColorOther + plugin.getName() + messageColor;
+      case "plugin_name_uppercase":
+        return placeholderColorOther + plugin.getName().toUpperCase() + messageColor;
+      case "plugin_short_command":
+        return placeholderColorOther + plugin.getPluginNamePrefix() + messageColor;
+      default:
+        return arena != null && id.startsWith("arena_") ? resolveArenaPlaceholder(id) : null;
     }
   }
 
-  private void formatPlugin() {
-    message = replace(message, "%plugin_prefix%", () -> placeholderColorOther + plugin.getLanguageManager().getLanguageMessage(plugin.getMessageManager().getPath("IN_GAME_PLUGIN_PREFIX")) + messageColor);
-    message = replace(message, "%plugin_name%", () -> placeholderColorOther + plugin.getName() + messageColor);
-    message = replace(message, "%plugin_name_uppercase%", () -> placeholderColorOther + plugin.getName().toUpperCase() + messageColor);
-    message = replace(message, "%plugin_short_command%", () -> placeholderColorOther + plugin.getPluginNamePrefix() + messageColor);
-  }
-
-  private void formatArena() {
-    message = replace(message, "%arena_min_players%", () -> placeholderColorOther + arena.getMinimumPlayers() + messageColor);
-    message = replace(message, "%arena_players%", () -> placeholderColorOther + arena.getPlayers() + messageColor);
-    message = replace(message, "%arena_players_size%", () -> placeholderColorOther + arena.getPlayers().size() + messageColor);
-    message = replace(message, "%arena_players_left%", () -> placeholderColorOther + arena.getPlayersLeft() + messageColor);
-    message = replace(message, "%arena_players_left_size%", () -> placeholderColorOther + arena.getPlayersLeft().size() + messageColor);
-    message = replace(message, "%arena_max_players%", () -> placeholderColorOther + arena.getMaximumPlayers() + messageColor);
-    message = replace(message, "%arena_name%", () -> placeholderColorOther + arena.getMapName() + messageColor);
-    message = replace(message, "%arena_id%", () -> placeholderColorOther + arena.getId() + messageColor);
-    message = replace(message, "%arena_state%", () -> placeholderColorOther + arena.getArenaState() + messageColor);
-    message = replace(message, "%arena_state_formatted%", () -> placeholderColorOther + arena.getArenaState().getFormattedName() + messageColor);
-    message = replace(message, "%arena_state_placeholder%", () -> placeholderColorOther + arena.getArenaState().getPlaceholder() + messageColor);
-    message = replace(message, "%arena_time%", () -> placeholderColorOther + arena.getTimer() + messageColor);
-    message = replace(message, "%arena_time_formatted%", () -> placeholderColorOther + StringFormatUtils.formatIntoMMSS(arena.getTimer()) + messageColor);
+  private String resolveArenaPlaceholder(String id) {
+    switch(id) {
+      case "arena_min_players":
+        return placeholderColorOther + arena.getMinimumPlayers() + argumentColor;
+      case "arena_players":
+        return placeholderColorOther + arena.getPlayers() + argumentColor;
+      case "arena_players_size":
+        return placeholderColorOther + arena.getPlayers().size() + argumentColor;
+      case "arena_players_left":
+        return placeholderColorOther + arena.getPlayersLeft() + argumentColor;
+      case "arena_players_left_size":
+        return placeholderColorOther + arena.getPlayersLeft().size() + argumentColor;
+      case "arena_max_players":
+        return placeholderColorOther + arena.getMaximumPlayers() + argumentColor;
+      case "arena_name":
+        return placeholderColorOther + arena.getMapName() + argumentColor;
+      case "arena_id":
+        return placeholderColorOther + arena.getId() + argumentColor;
+      case "arena_state":
+        return placeholderColorOther + arena.getArenaState() + argumentColor;
+      case "arena_state_formatted":
+        return placeholderColorOther + arena.getArenaState().getFormattedName() + argumentColor;
+      case "arena_state_placeholder":
+        return placeholderColorOther + arena.getArenaState().getPlaceholder() + argumentColor;
+      case "arena_time":
+        return placeholderColorOther + arena.getTimer() + argumentColor;
+      case "arena_time_formatted":
+        return placeholderColorOther + StringFormatUtils.formatIntoMMSS(arena.getTimer()) + argumentColor;
+      default:
+        return null;
+    }
   }
 
   private String replace(String text, String search, java.util.function.Supplier<String> replacement) {
@@ -238,17 +376,7 @@ public class MessageBuilder {
 
   public String build() {
     colorChatIssue();
-    formatPlugin();
-    formatPlaceholderAPI();
-    if(player != null && arena != null) {
-      formatExternalPlayerAndArena();
-    }
-    if(player != null) {
-      formatExternalPlayer();
-    }
-    if(arena != null) {
-      formatExternalArena();
-    }
+    formatPlaceholders();
     formatSpecialChars();
     message = messageColor + message;
     colorRawMessage();
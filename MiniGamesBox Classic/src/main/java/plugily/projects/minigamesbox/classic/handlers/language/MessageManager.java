@@ -20,6 +20,7 @@
 package plugily.projects.minigamesbox.classic.handlers.language;
 
 import org.bukkit.configuration.file.FileConfiguration;
+import org.jetbrains.annotations.TestOnly;
 import plugily.projects.minigamesbox.classic.PluginMain;
 import plugily.projects.minigamesbox.classic.utils.configuration.ConfigUtils;
 
@@ -50,6 +51,19 @@ public class MessageManager {
     loadSpecialChars();
   }
 
+  /**
+   * Creates the manager with the default values of all messages, the language file is not read
+   *
+   * @param plugin       plugin to use
+   * @param specialChars chars that get the special char color
+   */
+  @TestOnly
+  protected MessageManager(PluginMain plugin, List<String> specialChars) {
+    this.plugin = plugin;
+    options.putAll(Message.getMessages());
+    this.specialChars.addAll(specialChars);
+  }
+
   private void loadMessages() {
     FileConfiguration language = ConfigUtils.getConfig(plugin, "language");
     Message.getMessages().forEach((s, message) -> options.put(s, new Message(message.getPath(), language.getString(message.getPath(), message.getValue()), message.isProtected())));
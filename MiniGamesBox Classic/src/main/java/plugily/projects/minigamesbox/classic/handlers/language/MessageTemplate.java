@@ -0,0 +1,152 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.classic.handlers.language;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Language string split once at its percent signs so placeholders
+ * can be resolved in a single pass without rescanning the text.
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class MessageTemplate {
+
+  //messages built from concatenated strings would grow the cache forever
+  private static final int MAX_CACHED_TEMPLATES = 4096;
+  private static final Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+  private static final ThreadLocal<StringBuilder> renderBuffer = new ThreadLocal<>();
+
+  private final String source;
+  private final int[] percentIndexes;
+  //placeholder candidates between two neighbouring percent signs
+  private final String[] candidates;
+
+  private MessageTemplate(String source) {
+    this.source = source;
+    int count = 0;
+    for(int i = source.indexOf('%'); i != -1; i = source.indexOf('%', i + 1)) {
+      count++;
+    }
+    percentIndexes = new int[count];
+    count = 0;
+    for(int i = source.indexOf('%'); i != -1; i = source.indexOf('%', i + 1)) {
+      percentIndexes[count++] = i;
+    }
+    candidates = new String[Math.max(0, count - 1)];
+    for(int i = 0; i < candidates.length; i++) {
+      candidates[i] = source.substring(percentIndexes[i] + 1, percentIndexes[i + 1]);
+    }
+  }
+
+  /**
+   * Returns the compiled template of the text, compiles it if not cached yet
+   *
+   * @param text text to compile
+   * @return compiled template
+   */
+  @NotNull
+  public static MessageTemplate compile(@NotNull String text) {
+    MessageTemplate template = templates.get(text);
+    if(template == null) {
+      if(templates.size() >= MAX_CACHED_TEMPLATES) {
+        templates.clear();
+      }
+      template = new MessageTemplate(text);
+      templates.put(text, template);
+    }
+    return template;
+  }
+
+  /**
+   * Clears all compiled templates, used on language reload
+   */
+  public static void clearCache() {
+    templates.clear();
+  }
+
+  /**
+   * @return true if the text contains at least one placeholder candidate
+   */
+  public boolean hasPlaceholders() {
+    return candidates.length != 0;
+  }
+
+  /**
+   * @param predicate test for the placeholder id (without percent signs)
+   * @return true if any placeholder candidate of the text matches
+   */
+  public boolean hasPlaceholder(@NotNull Predicate<String> predicate) {
+    for(String candidate : candidates) {
+      if(!candidate.isEmpty() && predicate.test(candidate)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Replaces all placeholders in a single pass. Placeholders the resolver
+   * returns null for are kept as they are. Resolved values are not scanned again.
+   *
+   * @param resolver resolves the placeholder id (without percent signs) to its value
+   * @return the rendered text
+   */
+  @NotNull
+  public String render(@NotNull Function<String, String> resolver) {
+    if(candidates.length == 0) {
+      return source;
+    }
+    //the buffer is taken from the thread while rendering as placeholders could build messages too
+    StringBuilder builder = renderBuffer.get();
+    if(builder == null) {
+      builder = new StringBuilder(source.length() + 32);
+    } else {
+      renderBuffer.set(null);
+      builder.setLength(0);
+    }
+    int copyFrom = 0;
+    int index = 0;
+    while(index < candidates.length) {
+      String candidate = candidates[index];
+      String value = candidate.isEmpty() ? null : resolver.apply(candidate);
+      if(value == null) {
+        //closing percent sign could be the start of the next placeholder
+        index++;
+        continue;
+      }
+      builder.append(source, copyFrom, percentIndexes[index]).append(value);
+      copyFrom = percentIndexes[index + 1] + 1;
+      index += 2;
+    }
+    builder.append(source, copyFrom, source.length());
+    String rendered = builder.toString();
+    renderBuffer.set(builder);
+    return rendered;
+  }
+
+}
@@ -25,6 +25,8 @@ import plugily.projects.minigamesbox.classic.PluginMain;
 import plugily.projects.minigamesbox.classic.arena.PluginArena;
 import plugily.projects.minigamesbox.classic.utils.version.VersionUtils;
 
+import java.util.Collection;
+
 /**
  * @author Tigerpanzer_02
  * <p>
@@ -93,15 +95,32 @@ public class TitleBuilder {
     }
   }
 
+  //titles do not depend on the receiver, they are built once and sent as batch
+  private void sendTitles(Collection<? extends Player> players) {
+    if(players.isEmpty()) {
+      return;
+    }
+    split();
+    if(title != null && !title.isEmpty() && subTitle != null && !subTitle.isEmpty()) {
+      VersionUtils.sendTitles(players, title, subTitle, fadeIn, stay, fadeOut);
+      return;
+    }
+    if(title != null && !title.isEmpty()) {
+      VersionUtils.sendTitle(players, title, fadeIn, stay, fadeOut);
+      return;
+    }
+    if(subTitle != null && !subTitle.isEmpty()) {
+      VersionUtils.sendSubTitle(players, subTitle, fadeIn, stay, fadeOut);
+    }
+  }
+
 
   public void send(Player player) {
     sendTitles(player);
   }
 
   public void send(PluginArena arena) {
-    for(Player arenaPlayer : arena.getPlayers()) {
-      sendTitles(arenaPlayer);
-    }
+    sendTitles(arena.getPlayers());
   }
 
   public void sendPlayer() {
@@ -112,16 +131,12 @@ public class TitleBuilder {
 
   public void sendArena() {
     if(arena != null) {
-      for(Player arenaPlayer : arena.getPlayers()) {
-        sendTitles(arenaPlayer);
-      }
+      sendTitles(arena.getPlayers());
     }
   }
 
   public void broadcast() {
-    for(Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-      sendTitles(onlinePlayer);
-    }
+    sendTitles(Bukkit.getOnlinePlayers());
   }
 
 
@@ -0,0 +1,229 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.classic.handlers.party;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import plugily.projects.minigamesbox.classic.PluginMain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves parties of the party plugins asynchronously and keeps them per player,
+ * so joining an arena does not wait for the party plugin or its database
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+public class CachedPartyHandler implements PartyHandler, Listener {
+
+  //parties are resolved again in the background once they are older than this
+  private static final long TIME_TO_LIVE_TICKS = 20 * 30;
+
+  private final PluginMain plugin;
+  private final PartyHandler handler;
+  //true if a listener of the party plugin refreshes the cache on every party change
+  private final boolean changeListener;
+  private final Map<UUID, CachedParty> parties = new ConcurrentHashMap<>();
+  //lookups that started before the last invalidation of a player must not be cached for them
+  private final AtomicLong invalidations = new AtomicLong();
+  private final Map<UUID, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+  public CachedPartyHandler(PluginMain plugin, PartyHandler handler) {
+    this(plugin, handler, false);
+  }
+
+  /**
+   * @param plugin         plugin to use
+   * @param handler        handler of the party plugin
+   * @param changeListener true if {@link #refresh(Iterable)} gets called on every party change
+   */
+  public CachedPartyHandler(PluginMain plugin, PartyHandler handler, boolean changeListener) {
+    this.plugin = plugin;
+    this.handler = handler;
+    this.changeListener = changeListener;
+    plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::refreshExpired, TIME_TO_LIVE_TICKS, TIME_TO_LIVE_TICKS);
+  }
+
+  @Override
+  public GameParty getParty(Player player) {
+    CachedParty party = parties.get(player.getUniqueId());
+    if(party == null) {
+      //only happens if the player joins an arena before the pre-resolve on server join finished
+      plugin.getDebugger().debug("[Party] Resolving party of {0} on join, not cached yet", player.getName());
+      party = resolve(player);
+    } else if(!changeListener && player.getUniqueId().equals(party.leader)) {
+      //without change events the party is verified in the background, the members are taken from the cache meanwhile
+      Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        if(player.isOnline()) {
+          resolve(player);
+        }
+      });
+    }
+    return party.toGameParty(parties);
+  }
+
+  @Override
+  public boolean partiesSupported() {
+    return handler.partiesSupported();
+  }
+
+  @Override
+  public PartyPluginType getPartyPluginType() {
+    return handler.getPartyPluginType();
+  }
+
+  /**
+   * Drops the cached party of the player, the next lookup resolves it again
+   *
+   * @param uuid unique id of the player
+   */
+  public void invalidate(UUID uuid) {
+    invalidatedAt.put(uuid, invalidations.incrementAndGet());
+    CachedParty party = parties.remove(uuid);
+    if(party != null) {
+      party.members.forEach(member -> parties.remove(member, party));
+    }
+  }
+
+  /**
+   * Drops the cached parties of the players and resolves them again asynchronously,
+   * called by the listeners of the party plugins whenever a party changed
+   *
+   * @param uuids unique ids of the players whose party changed
+   */
+  public void refresh(Iterable<UUID> uuids) {
+    List<Player> online = new ArrayList<>();
+    for(UUID uuid : uuids) {
+      invalidate(uuid);
+      Player player = Bukkit.getPlayer(uuid);
+      if(player != null) {
+        online.add(player);
+      }
+    }
+    if(online.isEmpty() || !plugin.isEnabled()) {
+      return;
+    }
+    Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> online.stream().filter(Player::isOnline).forEach(this::resolve));
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onJoin(PlayerJoinEvent event) {
+    Player player = event.getPlayer();
+    invalidate(player.getUniqueId());
+    Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+      if(player.isOnline()) {
+        resolve(player);
+      }
+    });
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onQuit(PlayerQuitEvent event) {
+    UUID uuid = event.getPlayer().getUniqueId();
+    invalidate(uuid);
+    invalidatedAt.remove(uuid);
+  }
+
+  private void refreshExpired() {
+    long expiredBefore = System.currentTimeMillis() - TIME_TO_LIVE_TICKS * 50;
+    for(Player player : new ArrayList<>(Bukkit.getOnlinePlayers())) {
+      CachedParty party = parties.get(player.getUniqueId());
+      if(party == null || party.resolvedAt < expiredBefore) {
+        resolve(player);
+      }
+    }
+  }
+
+  private CachedParty resolve(Player player) {
+    long startedAt = invalidations.get();
+    GameParty gameParty = handler.getParty(player);
+    if(gameParty == null) {
+      CachedParty noParty = new CachedParty(null, Collections.emptyList());
+      cache(player.getUniqueId(), noParty, startedAt);
+      return noParty;
+    }
+    List<UUID> members = new ArrayList<>(gameParty.getPlayers().size());
+    for(Player member : gameParty.getPlayers()) {
+      members.add(member.getUniqueId());
+    }
+    CachedParty party = new CachedParty(gameParty.getLeader().getUniqueId(), members);
+    //every member is in the same party, one lookup resolves all of them
+    cache(player.getUniqueId(), party, startedAt);
+    members.forEach(member -> cache(member, party, startedAt));
+    return party;
+  }
+
+  private void cache(UUID uuid, CachedParty party, long startedAt) {
+    //a slower lookup must not overwrite a later invalidation, offline players are not kept
+    if(invalidatedAt.getOrDefault(uuid, -1L) > startedAt || Bukkit.getPlayer(uuid) == null) {
+      return;
+    }
+    parties.put(uuid, party);
+  }
+
+  private static final class CachedParty {
+
+    private final UUID leader;
+    private final List<UUID> members;
+    private final long resolvedAt = System.currentTimeMillis();
+
+    private CachedParty(UUID leader, List<UUID> members) {
+      this.leader = leader;
+      this.members = members;
+    }
+
+    /**
+     * @param parties cached parties, members whose own entry points to another party have left it
+     */
+    private GameParty toGameParty(Map<UUID, CachedParty> parties) {
+      if(leader == null) {
+        return null;
+      }
+      Player leaderPlayer = Bukkit.getPlayer(leader);
+      if(leaderPlayer == null) {
+        return null;
+      }
+      List<Player> players = new ArrayList<>(members.size());
+      for(UUID member : members) {
+        Player player = Bukkit.getPlayer(member);
+        if(player != null && parties.get(member) == this) {
+          players.add(player);
+        }
+      }
+      return new GameParty(players, leaderPlayer);
+    }
+
+  }
+
+}
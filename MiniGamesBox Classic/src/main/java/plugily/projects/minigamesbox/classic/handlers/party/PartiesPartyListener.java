@@ -0,0 +1,81 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.classic.handlers.party;
+
+import com.alessiodp.parties.api.events.bukkit.party.BukkitPartiesPartyPostCreateEvent;
+import com.alessiodp.parties.api.events.bukkit.party.BukkitPartiesPartyPostDeleteEvent;
+import com.alessiodp.parties.api.events.bukkit.player.BukkitPartiesPlayerPostJoinEvent;
+import com.alessiodp.parties.api.events.bukkit.player.BukkitPartiesPlayerPostLeaveEvent;
+import com.alessiodp.parties.api.interfaces.Party;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Refreshes the cached parties whenever a party of the Parties plugin changes
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+public class PartiesPartyListener implements Listener {
+
+  private final CachedPartyHandler partyHandler;
+
+  public PartiesPartyListener(CachedPartyHandler partyHandler) {
+    this.partyHandler = partyHandler;
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPartyJoin(BukkitPartiesPlayerPostJoinEvent event) {
+    refresh(event.getParty(), event.getPartyPlayer().getPlayerUUID());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPartyLeave(BukkitPartiesPlayerPostLeaveEvent event) {
+    refresh(event.getParty(), event.getPartyPlayer().getPlayerUUID());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPartyCreate(BukkitPartiesPartyPostCreateEvent event) {
+    refresh(event.getParty(), event.getCreator() == null ? null : event.getCreator().getPlayerUUID());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPartyDelete(BukkitPartiesPartyPostDeleteEvent event) {
+    refresh(event.getParty(), null);
+  }
+
+  private void refresh(Party party, UUID player) {
+    Set<UUID> changed = new HashSet<>();
+    if(party != null) {
+      changed.addAll(party.getMembers());
+    }
+    if(player != null) {
+      changed.add(player);
+    }
+    partyHandler.refresh(changed);
+  }
+
+}
@@ -35,12 +35,14 @@ public class PartySupportInitializer {
     PartyHandler partyHandler;
     if(!plugin.getConfigPreferences().getOption("EXTERNAL_PARTIES")) {
       if(Bukkit.getServer().getPluginManager().getPlugin("Parties") != null) {
-        return new PartiesPartyHandlerImpl();
+        CachedPartyHandler cachedPartyHandler = new CachedPartyHandler(plugin, new PartiesPartyHandlerImpl(), true);
+        plugin.getServer().getPluginManager().registerEvents(new PartiesPartyListener(cachedPartyHandler), plugin);
+        return cachedPartyHandler;
       }
       if(Bukkit.getServer().getPluginManager().getPlugin("Spigot-Party-API-PAF") != null) {
-        return new PAFBPartyHandlerImpl();
+        return new CachedPartyHandler(plugin, new PAFBPartyHandlerImpl());
       } else if(Bukkit.getServer().getPluginManager().getPlugin("PartyAndFriends") != null) {
-        return new PAFSPartyHandlerImpl();
+        return new CachedPartyHandler(plugin, new PAFSPartyHandlerImpl());
       }
     }
     partyHandler = new PartyHandler() {
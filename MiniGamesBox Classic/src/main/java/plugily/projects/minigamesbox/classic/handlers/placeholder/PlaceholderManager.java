@@ -22,12 +22,16 @@ package plugily.projects.minigamesbox.classic.handlers.placeholder;
 
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
 import plugily.projects.minigamesbox.classic.PluginMain;
 import plugily.projects.minigamesbox.classic.arena.PluginArena;
+import plugily.projects.minigamesbox.classic.handlers.language.MessageBuilder;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Tigerpanzer_02
@@ -39,6 +43,8 @@ public class PlaceholderManager {
   private final PluginMain plugin;
   private List<Placeholder> registeredPAPIPlaceholders = new ArrayList<>();
   private List<Placeholder> registeredInternalPlaceholders = new ArrayList<>();
+  //first registered placeholder wins if ids are duplicated
+  private final Map<String, Placeholder> registeredInternalPlaceholdersById = new HashMap<>();
 
   public PlaceholderManager(PluginMain plugin) {
     this.plugin = plugin;
@@ -154,20 +160,70 @@ public class PlaceholderManager {
         break;
       case INTERNAL:
         registeredInternalPlaceholders.add(placeholder);
+        registeredInternalPlaceholdersById.putIfAbsent(placeholder.getId(), placeholder);
+        resetPlayerPlaceholderChecks();
         break;
       case ALL:
         registeredPAPIPlaceholders.add(placeholder);
         registeredInternalPlaceholders.add(placeholder);
+        registeredInternalPlaceholdersById.putIfAbsent(placeholder.getId(), placeholder);
+        resetPlayerPlaceholderChecks();
         break;
       default:
         break;
     }
   }
 
+  /**
+   * Lines checked with isPlayerPlaceholder before this registration could contain the new placeholder
+   */
+  private void resetPlayerPlaceholderChecks() {
+    if(plugin.getArenaSelectorManager() != null) {
+      plugin.getArenaSelectorManager().reload();
+    }
+    if(plugin.getArenaRegistry() != null) {
+      for(PluginArena arena : plugin.getArenaRegistry().getArenas()) {
+        if(arena.getScoreboardManager() != null) {
+          arena.getScoreboardManager().reloadContent();
+        }
+      }
+    }
+  }
+
   public List<Placeholder> getRegisteredInternalPlaceholders() {
     return Collections.unmodifiableList(registeredInternalPlaceholders);
   }
 
+  /**
+   * Returns the internal placeholder with the given id
+   *
+   * @param id placeholder id without percent signs, arena placeholders are prefixed with arena_
+   * @return the placeholder or null if none is registered
+   */
+  @Nullable
+  public Placeholder getRegisteredInternalPlaceholder(String id) {
+    return registeredInternalPlaceholdersById.get(id);
+  }
+
+  /**
+   * Checks if the placeholder could resolve to a different value for each player
+   *
+   * @param id             placeholder id without percent signs
+   * @param placeholderApi whether PlaceholderAPI is enabled
+   * @return true if the value depends on the player
+   */
+  public boolean isPlayerPlaceholder(String id, boolean placeholderApi) {
+    if(id.equals("player") || id.equals("player_uuid")) {
+      return true;
+    }
+    //only built-in ids are known to ignore the player, registered arena placeholders are prefixed with arena_ too
+    if(MessageBuilder.isPlayerIndependentPlaceholder(id)) {
+      return false;
+    }
+    //registered placeholders get the player passed and PlaceholderAPI could resolve anything per player
+    return getRegisteredInternalPlaceholder(id) != null || placeholderApi;
+  }
+
   public List<Placeholder> getRegisteredPAPIPlaceholders() {
     return Collections.unmodifiableList(registeredPAPIPlaceholders);
   }
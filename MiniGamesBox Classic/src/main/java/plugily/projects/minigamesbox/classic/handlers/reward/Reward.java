@@ -21,7 +21,13 @@ package plugily.projects.minigamesbox.classic.handlers.reward;
 
 import org.apache.commons.lang.StringUtils;
 import org.bukkit.Bukkit;
+import org.jetbrains.annotations.Nullable;
+import plugily.projects.minigamesbox.classic.handlers.language.MessageBuilder;
+import plugily.projects.minigamesbox.classic.handlers.language.MessageTemplate;
+import plugily.projects.minigamesbox.classic.utils.engine.ScriptRuntime;
 
+import javax.script.CompiledScript;
+import javax.script.ScriptException;
 import java.util.logging.Level;
 
 /**
@@ -36,6 +42,8 @@ public class Reward {
   private String executableCode;
   private final double chance;
   private int numberExecute = -1;
+  private CompiledScript compiledScript;
+  private String renderedCode;
 
   public Reward(RewardType type, String rawCode, int numberExecute) {
     this(type, rawCode);
@@ -77,6 +85,45 @@ public class Reward {
     executableCode = processedCode;
   }
 
+  /**
+   * Prepares the reward for execution. Code without placeholders is rendered
+   * once and scripts are compiled, code with placeholders gets rendered on execution
+   *
+   * @return false if the script is invalid
+   */
+  boolean prepare() {
+    if(executableCode == null || executableCode.isEmpty() || MessageTemplate.compile(executableCode).hasPlaceholders()) {
+      return true;
+    }
+    renderedCode = new MessageBuilder(executableCode, false).build();
+    if(executor != RewardExecutor.SCRIPT) {
+      return true;
+    }
+    try {
+      compiledScript = ScriptRuntime.compile(renderedCode);
+    } catch(ScriptException e) {
+      ScriptRuntime.logScriptError(renderedCode, e);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * @return script compiled on registration or null if it has to be evaluated on every execution
+   */
+  @Nullable
+  public CompiledScript getCompiledScript() {
+    return compiledScript;
+  }
+
+  /**
+   * @return code rendered on registration or null if it contains placeholders
+   */
+  @Nullable
+  public String getRenderedCode() {
+    return renderedCode;
+  }
+
   public RewardExecutor getExecutor() {
     return executor;
   }
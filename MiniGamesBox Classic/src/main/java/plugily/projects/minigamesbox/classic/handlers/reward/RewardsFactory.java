@@ -27,11 +27,11 @@ import plugily.projects.minigamesbox.classic.PluginMain;
 import plugily.projects.minigamesbox.classic.arena.PluginArena;
 import plugily.projects.minigamesbox.classic.handlers.language.MessageBuilder;
 import plugily.projects.minigamesbox.classic.utils.configuration.ConfigUtils;
-import plugily.projects.minigamesbox.classic.utils.engine.ScriptEngine;
+import plugily.projects.minigamesbox.classic.utils.engine.ScriptRuntime;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
@@ -44,7 +44,11 @@ import java.util.logging.Level;
  */
 public class RewardsFactory {
 
-  private final Set<Reward> rewards = new HashSet<>();
+  //rewards bucketed by type and execute number, rewards of types without number executor use ANY_NUMBER
+  private static final int ANY_NUMBER = -1;
+  private static final Reward[] NO_REWARDS = new Reward[0];
+  private final Map<RewardType, Map<Integer, Reward[]>> rewards = new HashMap<>();
+  private boolean rewardsSection;
   private final Map<String, RewardType> rewardTypes = new HashMap<>();
   private final FileConfiguration config;
   private final boolean enabled;
@@ -159,14 +163,18 @@ public class RewardsFactory {
     if(command == null || command.isEmpty()) {
       return;
     }
-    MessageBuilder messageBuilder = new MessageBuilder(command, false);
-    if(player != null) {
-      messageBuilder = messageBuilder.player(player);
-    }
-    if(arena != null) {
-      messageBuilder = messageBuilder.arena(arena);
+    if(reward.getRenderedCode() != null) {
+      command = reward.getRenderedCode();
+    } else {
+      MessageBuilder messageBuilder = new MessageBuilder(command, false);
+      if(player != null) {
+        messageBuilder = messageBuilder.player(player);
+      }
+      if(arena != null) {
+        messageBuilder = messageBuilder.arena(arena);
+      }
+      command = messageBuilder.build();
     }
-    command = messageBuilder.build();
     switch(reward.getExecutor()) {
       case CONSOLE:
         Bukkit.getServer().dispatchCommand(Bukkit.getConsoleSender(), command);
@@ -177,16 +185,16 @@ public class RewardsFactory {
         }
         break;
       case SCRIPT:
-        ScriptEngine engine = new ScriptEngine();
+        Map<String, Object> values = new HashMap<>();
         if(player != null) {
-          engine.setValue("player", player);
+          values.put("player", player);
         }
-        engine.setValue("server", Bukkit.getServer());
+        values.put("server", Bukkit.getServer());
         if(arena != null) {
-          engine.setValue("arena", arena);
+          values.put("arena", arena);
         }
-        engine.setValue("plugin", plugin);
-        engine.execute(command);
+        values.put("plugin", plugin);
+        ScriptRuntime.execute(reward.getCompiledScript(), command, values);
         break;
       default:
         break;
@@ -198,24 +206,31 @@ public class RewardsFactory {
     if(!enabled) {
       return;
     }
-    if(!config.contains("rewards")) {
+    if(!rewardsSection) {
       plugin.getDebugger().debug(Level.WARNING, "[RewardsFactory] Rewards section not found in the file. Rewards won't be loaded.");
       return;
     }
 
+    Reward[] typeRewards = getRewards(type, executeNumber);
+    if(typeRewards.length == 0) {
+      return;
+    }
+
     if(arena == null && player != null)
       arena = plugin.getArenaRegistry().getArena(player);
 
+    for(Reward reward : typeRewards) {
+      executeReward(player, arena, reward);
+    }
+  }
 
-    for(Reward reward : rewards) {
-      if(reward.getType() == type) {
-        //reward isn't a number executor
-        if(type.getExecutorType() == RewardType.ExecutorType.NUMBER && reward.getNumberExecute() != executeNumber) {
-          continue;
-        }
-        executeReward(player, arena, reward);
-      }
+  private Reward[] getRewards(RewardType type, int executeNumber) {
+    Map<Integer, Reward[]> typeRewards = rewards.get(type);
+    if(typeRewards == null) {
+      return NO_REWARDS;
     }
+    Reward[] numberRewards = typeRewards.get(type.getExecutorType() == RewardType.ExecutorType.NUMBER ? executeNumber : ANY_NUMBER);
+    return numberRewards == null ? NO_REWARDS : numberRewards;
   }
 
   private void registerRewards() {
@@ -224,6 +239,7 @@ public class RewardsFactory {
     }
     plugin.getDebugger().debug("[RewardsFactory] Starting rewards registration");
     long start = System.currentTimeMillis();
+    rewardsSection = config.contains("rewards");
 
     Map<RewardType, Integer> registeredRewards = new HashMap<>();
     for(RewardType rewardType : rewardTypes.values()) {
@@ -244,18 +260,31 @@ public class RewardsFactory {
 
   private void addReward(Map<RewardType, Integer> registeredRewards, RewardType rewardType) {
     for(String reward : config.getStringList("rewards." + rewardType.getPath())) {
-      rewards.add(new Reward(rewardType, reward));
-      registeredRewards.put(rewardType, registeredRewards.getOrDefault(rewardType, 0) + 1);
+      addReward(registeredRewards, new Reward(rewardType, reward));
     }
   }
 
   private void addNumberReward(Map<RewardType, Integer> registeredRewards, RewardType rewardType, ConfigurationSection section) {
     for(String key : section.getKeys(false)) {
       for(String reward : section.getStringList(key)) {
-        rewards.add(new Reward(rewardType, reward, Integer.parseInt(key)));
-        registeredRewards.put(rewardType, registeredRewards.getOrDefault(rewardType, 0) + 1);
+        addReward(registeredRewards, new Reward(rewardType, reward, Integer.parseInt(key)));
       }
     }
   }
 
+  private void addReward(Map<RewardType, Integer> registeredRewards, Reward reward) {
+    if(!reward.prepare()) {
+      plugin.getDebugger().debug(Level.WARNING, "[RewardsFactory] Script reward {0} of {1} is invalid and won't be registered", reward.getExecutableCode(), reward.getType().getPath());
+      return;
+    }
+    RewardType type = reward.getType();
+    int number = type.getExecutorType() == RewardType.ExecutorType.NUMBER ? reward.getNumberExecute() : ANY_NUMBER;
+    Map<Integer, Reward[]> typeRewards = rewards.computeIfAbsent(type, key -> new HashMap<>());
+    Reward[] numberRewards = typeRewards.getOrDefault(number, NO_REWARDS);
+    numberRewards = Arrays.copyOf(numberRewards, numberRewards.length + 1);
+    numberRewards[numberRewards.length - 1] = reward;
+    typeRewards.put(number, numberRewards);
+    registeredRewards.put(reward.getType(), registeredRewards.getOrDefault(reward.getType(), 0) + 1);
+  }
+
 }
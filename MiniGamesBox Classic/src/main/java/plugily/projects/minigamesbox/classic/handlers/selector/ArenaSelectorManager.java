@@ -0,0 +1,244 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.classic.handlers.selector;
+
+import com.cryptomorin.xseries.XMaterial;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Nullable;
+import plugily.projects.minigamesbox.classic.PluginMain;
+import plugily.projects.minigamesbox.classic.api.event.game.PlugilyGameStateChangeEvent;
+import plugily.projects.minigamesbox.classic.arena.ArenaState;
+import plugily.projects.minigamesbox.classic.arena.PluginArena;
+import plugily.projects.minigamesbox.classic.handlers.language.MessageBuilder;
+import plugily.projects.minigamesbox.classic.handlers.language.MessageTemplate;
+import plugily.projects.minigamesbox.classic.utils.misc.complement.ComplementAccessor;
+import plugily.projects.minigamesbox.inventory.common.item.ClickableItem;
+import plugily.projects.minigamesbox.inventory.common.item.SimpleClickableItem;
+import plugily.projects.minigamesbox.inventory.normal.NormalFastInv;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Arena selector inventory shared by all viewers. The item of an arena is only
+ * rendered again when its state or player count changed and only changed slots
+ * are sent to the viewers.
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+public class ArenaSelectorManager implements Listener {
+
+  private static final int MAX_SLOTS = 54;
+
+  private final PluginMain plugin;
+  private final Map<PluginArena, Integer> slots = new HashMap<>();
+  private final Map<PluginArena, ArenaState> renderedStates = new HashMap<>();
+  private final Map<PluginArena, Integer> renderedPlayers = new HashMap<>();
+  private final Set<PluginArena> dirtyArenas = new HashSet<>();
+  private List<PluginArena> arenas = new ArrayList<>();
+  private NormalFastInv inventory;
+  //null until the language lines got checked for placeholders that depend on the viewer
+  private Boolean shared;
+  private boolean updateScheduled = false;
+
+  public ArenaSelectorManager(PluginMain plugin) {
+    this.plugin = plugin;
+    plugin.getServer().getPluginManager().registerEvents(this, plugin);
+  }
+
+  /**
+   * Opens the arena selector for the player
+   *
+   * @param player player to open the selector for
+   */
+  public void open(Player player) {
+    if(!isShared()) {
+      createInventory(player).open(player);
+      return;
+    }
+    if(inventory == null || !arenas.equals(getSelectableArenas())) {
+      rebuild();
+    } else {
+      flushUpdates();
+    }
+    player.openInventory(inventory.getInventory());
+  }
+
+  /**
+   * Schedules an update of the arena item, it is only rendered
+   * again if the arena state or player count changed
+   *
+   * @param arena arena that changed
+   */
+  public void updateArena(PluginArena arena) {
+    if(inventory == null || !slots.containsKey(arena)) {
+      return;
+    }
+    dirtyArenas.add(arena);
+    //without viewers the item is rendered on the next open
+    if(inventory.getInventory().getViewers().isEmpty() || updateScheduled || !plugin.isEnabled()) {
+      return;
+    }
+    updateScheduled = true;
+    Bukkit.getScheduler().runTask(plugin, this::flushUpdates);
+  }
+
+  /**
+   * Drops the shared inventory, it is created again with the current language on the next open
+   */
+  public void reload() {
+    shared = null;
+    inventory = null;
+    arenas = new ArrayList<>();
+    slots.clear();
+    renderedStates.clear();
+    renderedPlayers.clear();
+    dirtyArenas.clear();
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onGameStateChange(PlugilyGameStateChangeEvent event) {
+    updateArena(event.getArena());
+  }
+
+  private boolean isShared() {
+    if(shared == null) {
+      boolean placeholderApi = plugin.getServer().getPluginManager().isPluginEnabled("PlaceholderAPI");
+      List<String> lines = new ArrayList<>(plugin.getLanguageManager().getLanguageList("Arena-Selector.Item.Lore"));
+      lines.add(plugin.getLanguageManager().getLanguageMessage("Arena-Selector.Item.Name"));
+      shared = lines.stream().noneMatch(line -> MessageTemplate.compile(line).hasPlaceholder(id -> plugin.getPlaceholderManager().isPlayerPlaceholder(id, placeholderApi)));
+      plugin.getDebugger().debug("Arena selector shared between viewers: {0}", shared);
+    }
+    return shared;
+  }
+
+  private void rebuild() {
+    plugin.getDebugger().performance("ArenaSelector", "[PerformanceMonitor] [ArenaSelector] Building shared arena selector");
+    long start = System.currentTimeMillis();
+    arenas = new ArrayList<>(getSelectableArenas());
+    slots.clear();
+    renderedStates.clear();
+    renderedPlayers.clear();
+    dirtyArenas.clear();
+
+    NormalFastInv oldInventory = inventory;
+    inventory = new NormalFastInv(Math.max(arenas.size(), 1), new MessageBuilder("ARENA_SELECTOR_INVENTORY_TITLE").asKey().build());
+    for(int slot = 0; slot < arenas.size(); slot++) {
+      PluginArena arena = arenas.get(slot);
+      slots.put(arena, slot);
+      renderArena(arena, slot);
+    }
+    inventory.refresh();
+    if(oldInventory != null) {
+      //viewers of the outdated inventory would still see removed arenas
+      new ArrayList<>(oldInventory.getInventory().getViewers()).forEach(viewer -> viewer.openInventory(inventory.getInventory()));
+    }
+    plugin.getDebugger().performance("ArenaSelector", "[PerformanceMonitor] [ArenaSelector] Built arena selector with {0} arenas took {1}ms", arenas.size(), System.currentTimeMillis() - start);
+  }
+
+  private List<PluginArena> getSelectableArenas() {
+    List<PluginArena> registered = plugin.getArenaRegistry().getArenas();
+    return registered.size() > MAX_SLOTS ? registered.subList(0, MAX_SLOTS) : registered;
+  }
+
+  private void flushUpdates() {
+    updateScheduled = false;
+    if(inventory == null || dirtyArenas.isEmpty()) {
+      return;
+    }
+    for(PluginArena arena : dirtyArenas) {
+      Integer slot = slots.get(arena);
+      if(slot != null) {
+        renderArena(arena, slot);
+      }
+    }
+    dirtyArenas.clear();
+    inventory.refresh();
+  }
+
+  private void renderArena(PluginArena arena, int slot) {
+    ArenaState state = arena.getArenaState();
+    int players = arena.getPlayers().size();
+    if(state == renderedStates.get(arena) && Integer.valueOf(players).equals(renderedPlayers.get(arena))) {
+      return;
+    }
+    //shared only if no line contains a player dependent placeholder, registered arena placeholders included
+    ClickableItem item = createItem(arena, null);
+    if(item == null) {
+      return;
+    }
+    renderedStates.put(arena, state);
+    renderedPlayers.put(arena, players);
+    inventory.getItemMap().setItem(slot, item);
+  }
+
+  private NormalFastInv createInventory(Player player) {
+    List<PluginArena> selectable = getSelectableArenas();
+    NormalFastInv arenaSelector = new NormalFastInv(Math.max(selectable.size(), 1), new MessageBuilder("ARENA_SELECTOR_INVENTORY_TITLE").asKey().build());
+    for(PluginArena arena : selectable) {
+      ClickableItem item = createItem(arena, player);
+      if(item != null) {
+        arenaSelector.addItem(item);
+      }
+    }
+    return arenaSelector;
+  }
+
+  @Nullable
+  private ClickableItem createItem(PluginArena arena, @Nullable Player player) {
+    ItemStack itemStack = XMaterial.matchXMaterial(plugin.getConfig().getString("Arena-Selector.State-Item." + arena.getArenaState().getFormattedName(), "YELLOW_WOOL").toUpperCase()).orElse(XMaterial.YELLOW_WOOL).parseItem();
+    if(itemStack == null) {
+      return null;
+    }
+    ItemMeta itemMeta = itemStack.getItemMeta();
+    if(itemMeta == null) {
+      return null;
+    }
+    ComplementAccessor.getComplement().setDisplayName(itemMeta, new MessageBuilder("ARENA_SELECTOR_ITEM_NAME").asKey().arena(arena).player(player).build());
+    List<String> lore = new ArrayList<>();
+    for(String description : plugin.getLanguageManager().getLanguageList("Arena-Selector.Item.Lore")) {
+      lore.add(new MessageBuilder(description).arena(arena).player(player).build());
+    }
+    ComplementAccessor.getComplement().setLore(itemMeta, lore);
+    itemStack.setItemMeta(itemMeta);
+
+    return new SimpleClickableItem(itemStack, event -> {
+      if(!(event.getWhoClicked() instanceof Player)) {
+        return;
+      }
+      Player clicker = (Player) event.getWhoClicked();
+      plugin.getArenaManager().joinAttempt(clicker, arena);
+      clicker.closeInventory();
+    });
+  }
+
+}
@@ -24,6 +24,7 @@ import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.block.Sign;
 import org.jetbrains.annotations.Nullable;
+import plugily.projects.minigamesbox.classic.arena.ArenaState;
 import plugily.projects.minigamesbox.classic.arena.PluginArena;
 import plugily.projects.minigamesbox.classic.utils.helper.MaterialUtils;
 import plugily.projects.minigamesbox.classic.utils.version.ServerVersion;
@@ -44,6 +45,9 @@ public class ArenaSign {
   private final Sign sign;
   private Block behind;
   private final PluginArena arena;
+  //state and player count the sign was rendered with, used to skip unchanged signs
+  private ArenaState renderedState;
+  private int renderedPlayers = -1;
 
   public ArenaSign(Sign sign, PluginArena arena) {
     this.sign = sign;
@@ -90,4 +94,18 @@ public class ArenaSign {
     return arena;
   }
 
+  @Nullable
+  ArenaState getRenderedState() {
+    return renderedState;
+  }
+
+  boolean isRendered(ArenaState state, int players) {
+    return renderedState == state && renderedPlayers == players;
+  }
+
+  void setRendered(@Nullable ArenaState state, int players) {
+    renderedState = state;
+    renderedPlayers = players;
+  }
+
 }
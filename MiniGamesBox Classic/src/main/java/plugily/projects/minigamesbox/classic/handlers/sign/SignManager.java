@@ -20,7 +20,9 @@
 package plugily.projects.minigamesbox.classic.handlers.sign;
 
 import com.cryptomorin.xseries.XMaterial;
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.block.Block;
 import org.bukkit.block.Sign;
@@ -31,6 +33,7 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.SignChangeEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
 import org.jetbrains.annotations.Nullable;
 import plugily.projects.minigamesbox.classic.PluginMain;
 import plugily.projects.minigamesbox.classic.arena.ArenaState;
@@ -42,10 +45,16 @@ import plugily.projects.minigamesbox.classic.utils.serialization.LocationSeriali
 import plugily.projects.minigamesbox.classic.utils.version.ServerVersion;
 import plugily.projects.minigamesbox.classic.utils.version.events.api.PlugilyPlayerInteractEvent;
 
+import java.lang.reflect.Method;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.logging.Level;
 
 /**
@@ -58,8 +67,49 @@ public class SignManager implements Listener {
 
   private final PluginMain plugin;
   private final List<ArenaSign> arenaSigns = new ArrayList<>();
+  //sign lookups by world and packed block position and by arena
+  private final Map<UUID, Map<Long, ArenaSign>> signsByBlock = new HashMap<>();
+  private final Map<PluginArena, List<ArenaSign>> signsByArena = new HashMap<>();
+  //arenas whose signs have to be checked on the next update, updates are done at most once per tick
+  private final Set<PluginArena> dirtyArenas = new HashSet<>();
+  private final Set<ArenaSign> unloadedSigns = new HashSet<>();
+  //modifiable view for other plugins, changes keep the lookups in sync and update the signs
+  private final List<ArenaSign> arenaSignsView = new AbstractList<ArenaSign>() {
+    @Override
+    public ArenaSign get(int index) {
+      return arenaSigns.get(index);
+    }
+
+    @Override
+    public int size() {
+      return arenaSigns.size();
+    }
+
+    @Override
+    public void add(int index, ArenaSign arenaSign) {
+      addArenaSign(arenaSign);
+      updateSigns(arenaSign.getArena());
+    }
+
+    @Override
+    public ArenaSign set(int index, ArenaSign arenaSign) {
+      ArenaSign previous = remove(index);
+      add(index, arenaSign);
+      return previous;
+    }
+
+    @Override
+    public ArenaSign remove(int index) {
+      ArenaSign arenaSign = arenaSigns.get(index);
+      removeArenaSign(arenaSign);
+      return arenaSign;
+    }
+  };
   private final Map<ArenaState, String> gameStateToString = new EnumMap<>(ArenaState.class);
   private final List<String> signLines;
+  private final Method legacySetData;
+  private boolean updateScheduled = false;
+  private boolean forceUpdate = false;
 
   public SignManager(PluginMain plugin) {
     this.plugin = plugin;
@@ -68,9 +118,22 @@ public class SignManager implements Listener {
     }
 
     signLines = plugin.getLanguageManager().getLanguageList("Signs.Lines");
+    legacySetData = getLegacySetData();
     plugin.getServer().getPluginManager().registerEvents(this, plugin);
   }
 
+  @Nullable
+  private static Method getLegacySetData() {
+    if(ServerVersion.Version.isCurrentEqualOrHigher(ServerVersion.Version.v1_13_R1)) {
+      return null;
+    }
+    try {
+      return Block.class.getMethod("setData", byte.class);
+    } catch(NoSuchMethodException e) {
+      return null;
+    }
+  }
+
   @EventHandler
   public void onSignChange(SignChangeEvent event) {
     if(!event.getPlayer().hasPermission(plugin.getPluginNamePrefixLong() + ".admin.sign.create")
@@ -89,7 +152,9 @@ public class SignManager implements Listener {
       for(int i = 0; i < signLines.size(); i++) {
         ComplementAccessor.getComplement().setLine(event, i, new MessageBuilder(signLines.get(i)).arena(arena).build());
       }
-      arenaSigns.add(new ArenaSign((Sign) event.getBlock().getState(), arena));
+      ArenaSign arenaSign = new ArenaSign((Sign) event.getBlock().getState(), arena);
+      arenaSign.setRendered(arena.getArenaState(), arena.getPlayers().size());
+      addArenaSign(arenaSign);
       new MessageBuilder("SIGNS_CREATED").asKey().player(event.getPlayer()).arena(arena).sendPlayer();
       String location = event.getBlock().getWorld().getName() + "," + event.getBlock().getX() + "," + event.getBlock().getY() + "," + event.getBlock().getZ() + ",0.0,0.0";
       FileConfiguration config = ConfigUtils.getConfig(plugin, "arenas");
@@ -108,7 +173,7 @@ public class SignManager implements Listener {
     if(!event.getPlayer().hasPermission(plugin.getPluginNamePrefixLong() + ".admin.sign.break") || arenaSign == null) {
       return;
     }
-    arenaSigns.remove(arenaSign);
+    removeArenaSign(arenaSign);
     FileConfiguration config = ConfigUtils.getConfig(plugin, "arenas");
     if(!config.isConfigurationSection("instances")) {
       return;
@@ -133,7 +198,7 @@ public class SignManager implements Listener {
 
   @EventHandler(priority = EventPriority.HIGH)
   public void onJoinAttempt(PlugilyPlayerInteractEvent event) {
-    if(event.getAction() != Action.RIGHT_CLICK_BLOCK || !(event.getClickedBlock().getState() instanceof Sign)) {
+    if(event.getAction() != Action.RIGHT_CLICK_BLOCK) {
       return;
     }
     ArenaSign arenaSign = getArenaSignByBlock(event.getClickedBlock());
@@ -147,17 +212,62 @@ public class SignManager implements Listener {
     plugin.getArenaManager().joinAttempt(event.getPlayer(), arena);
   }
 
+  @EventHandler
+  public void onChunkLoad(ChunkLoadEvent event) {
+    if(unloadedSigns.isEmpty()) {
+      return;
+    }
+    Chunk chunk = event.getChunk();
+    for(ArenaSign arenaSign : unloadedSigns) {
+      Sign sign = arenaSign.getSign();
+      if(sign.getX() >> 4 == chunk.getX() && sign.getZ() >> 4 == chunk.getZ() && sign.getWorld().equals(chunk.getWorld())) {
+        dirtyArenas.add(arenaSign.getArena());
+        scheduleUpdate();
+      }
+    }
+  }
+
   @Nullable
   private ArenaSign getArenaSignByBlock(Block block) {
     if(block == null) {
       return null;
     }
-    for(ArenaSign sign : arenaSigns) {
-      if(sign.getSign().getLocation().equals(block.getLocation())) {
-        return sign;
-      }
+    Map<Long, ArenaSign> signs = signsByBlock.get(block.getWorld().getUID());
+    return signs == null ? null : signs.get(getBlockKey(block.getX(), block.getY(), block.getZ()));
+  }
+
+  private static long getBlockKey(int x, int y, int z) {
+    return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (long) y & 0xFFF;
+  }
+
+  private void addArenaSign(ArenaSign arenaSign) {
+    Sign sign = arenaSign.getSign();
+    ArenaSign previous = signsByBlock.computeIfAbsent(sign.getWorld().getUID(), uuid -> new HashMap<>())
+        .put(getBlockKey(sign.getX(), sign.getY(), sign.getZ()), arenaSign);
+    if(previous != null) {
+      arenaSigns.remove(previous);
+      removeFromArena(previous);
+    }
+    arenaSigns.add(arenaSign);
+    signsByArena.computeIfAbsent(arenaSign.getArena(), arena -> new ArrayList<>()).add(arenaSign);
+  }
+
+  private void removeArenaSign(ArenaSign arenaSign) {
+    Sign sign = arenaSign.getSign();
+    Map<Long, ArenaSign> signs = signsByBlock.get(sign.getWorld().getUID());
+    if(signs != null) {
+      signs.remove(getBlockKey(sign.getX(), sign.getY(), sign.getZ()), arenaSign);
+    }
+    arenaSigns.remove(arenaSign);
+    removeFromArena(arenaSign);
+  }
+
+  private void removeFromArena(ArenaSign arenaSign) {
+    unloadedSigns.remove(arenaSign);
+    List<ArenaSign> signs = signsByArena.get(arenaSign.getArena());
+    if(signs != null && signs.remove(arenaSign) && signs.isEmpty()) {
+      signsByArena.remove(arenaSign.getArena());
     }
-    return null;
   }
 
   public void loadSigns() {
@@ -165,6 +275,10 @@ public class SignManager implements Listener {
     long start = System.currentTimeMillis();
 
     arenaSigns.clear();
+    signsByBlock.clear();
+    signsByArena.clear();
+    dirtyArenas.clear();
+    unloadedSigns.clear();
     FileConfiguration config = ConfigUtils.getConfig(plugin, "arenas");
     org.bukkit.configuration.ConfigurationSection section = config.getConfigurationSection("instances");
     if(section == null) {
@@ -180,7 +294,7 @@ public class SignManager implements Listener {
           if(loc != null) {
             org.bukkit.block.BlockState state = loc.getBlock().getState();
             if(state instanceof Sign) {
-              arenaSigns.add(new ArenaSign((Sign) state, arena));
+              addArenaSign(new ArenaSign((Sign) state, arena));
               plugin.getDebugger().debug(Level.WARNING, "Block at location {0} for arena {1} added as sign!", sign, path);
               continue;
             }
@@ -193,61 +307,124 @@ public class SignManager implements Listener {
     plugin.getDebugger().debug("Sign load event finished took {0}ms", System.currentTimeMillis() - start);
   }
 
+  /**
+   * Schedules an update of all signs, lines get rendered again even if the arena did not change
+   */
   public void updateSigns() {
+    forceUpdate = true;
+    dirtyArenas.addAll(signsByArena.keySet());
+    scheduleUpdate();
+  }
+
+  /**
+   * Schedules an update of the signs of the arena, signs are only
+   * rendered again if the arena state or player count changed
+   *
+   * @param arena arena that changed
+   */
+  public void updateSigns(PluginArena arena) {
+    if(signsByArena.containsKey(arena)) {
+      dirtyArenas.add(arena);
+      scheduleUpdate();
+    }
+  }
+
+  private void scheduleUpdate() {
+    if(updateScheduled || !plugin.isEnabled()) {
+      return;
+    }
+    updateScheduled = true;
+    Bukkit.getScheduler().runTask(plugin, this::flushUpdates);
+  }
+
+  private void flushUpdates() {
+    updateScheduled = false;
+    if(dirtyArenas.isEmpty()) {
+      return;
+    }
     plugin.getDebugger().performance("SignUpdate", "[PerformanceMonitor] [SignUpdate] Updating signs");
     long start = System.currentTimeMillis();
+    boolean force = forceUpdate;
+    forceUpdate = false;
+    boolean blockStates = plugin.getConfig().getBoolean("Signs-Block-States-Enabled", true);
+    int updated = 0;
 
-    for(ArenaSign arenaSign : arenaSigns) {
-      for(int i = 0; i < signLines.size(); i++) {
-        ComplementAccessor.getComplement().setLine(arenaSign.getSign(), i, new MessageBuilder(signLines.get(i)).arena(arenaSign.getArena()).build());
+    for(PluginArena arena : dirtyArenas) {
+      List<ArenaSign> signs = signsByArena.get(arena);
+      if(signs == null) {
+        continue;
       }
-      if(plugin.getConfig().getBoolean("Signs-Block-States-Enabled", true) && arenaSign.getBehind() != null) {
-        Block behind = arenaSign.getBehind();
-        try {
-          switch(arenaSign.getArena().getArenaState()) {
-            case WAITING_FOR_PLAYERS:
-              behind.setType(XMaterial.WHITE_STAINED_GLASS.parseMaterial());
-              if(ServerVersion.Version.isCurrentLower(ServerVersion.Version.v1_13_R1)) {
-                Block.class.getMethod("setData", byte.class).invoke(behind, XMaterial.WHITE_STAINED_GLASS.getData());
-              }
-              break;
-            case STARTING:
-              behind.setType(XMaterial.YELLOW_STAINED_GLASS.parseMaterial());
-              if(ServerVersion.Version.isCurrentLower(ServerVersion.Version.v1_13_R1)) {
-                Block.class.getMethod("setData", byte.class).invoke(behind, XMaterial.YELLOW_STAINED_GLASS.getData());
-              }
-              break;
-            case IN_GAME:
-              behind.setType(XMaterial.ORANGE_STAINED_GLASS.parseMaterial());
-              if(ServerVersion.Version.isCurrentLower(ServerVersion.Version.v1_13_R1)) {
-                Block.class.getMethod("setData", byte.class).invoke(behind, XMaterial.ORANGE_STAINED_GLASS.getData());
-              }
-              break;
-            case ENDING:
-              behind.setType(XMaterial.GRAY_STAINED_GLASS.parseMaterial());
-              if(ServerVersion.Version.isCurrentLower(ServerVersion.Version.v1_13_R1)) {
-                Block.class.getMethod("setData", byte.class).invoke(behind, XMaterial.GRAY_STAINED_GLASS.getData());
-              }
-              break;
-            case RESTARTING:
-              behind.setType(XMaterial.BLACK_STAINED_GLASS.parseMaterial());
-              if(ServerVersion.Version.isCurrentLower(ServerVersion.Version.v1_13_R1)) {
-                Block.class.getMethod("setData", byte.class).invoke(behind, XMaterial.BLACK_STAINED_GLASS.getData());
-              }
-              break;
-            default:
-              break;
+      ArenaState state = arena.getArenaState();
+      int players = arena.getPlayers().size();
+      String[] lines = null;
+      for(ArenaSign arenaSign : signs) {
+        if(!force && arenaSign.isRendered(state, players)) {
+          continue;
+        }
+        Sign sign = arenaSign.getSign();
+        if(!sign.getWorld().isChunkLoaded(sign.getX() >> 4, sign.getZ() >> 4)) {
+          unloadedSigns.add(arenaSign);
+          continue;
+        }
+        if(lines == null) {
+          lines = new String[signLines.size()];
+          for(int i = 0; i < lines.length; i++) {
+            lines[i] = new MessageBuilder(signLines.get(i)).arena(arena).build();
           }
-        } catch(Exception ignored) {
         }
+        for(int i = 0; i < lines.length; i++) {
+          ComplementAccessor.getComplement().setLine(sign, i, lines[i]);
+        }
+        if(blockStates && arenaSign.getBehind() != null && (force || arenaSign.getRenderedState() != state)) {
+          updateBehindBlock(arenaSign.getBehind(), state);
+        }
+        sign.update();
+        arenaSign.setRendered(state, players);
+        unloadedSigns.remove(arenaSign);
+        updated++;
+      }
+    }
+    dirtyArenas.clear();
+    plugin.getDebugger().performance("SignUpdate", "[PerformanceMonitor] [SignUpdate] Updated {0} signs took {1}ms", updated, System.currentTimeMillis() - start);
+  }
+
+  private void updateBehindBlock(Block behind, ArenaState state) {
+    XMaterial material;
+    switch(state) {
+      case WAITING_FOR_PLAYERS:
+        material = XMaterial.WHITE_STAINED_GLASS;
+        break;
+      case STARTING:
+        material = XMaterial.YELLOW_STAINED_GLASS;
+        break;
+      case IN_GAME:
+        material = XMaterial.ORANGE_STAINED_GLASS;
+        break;
+      case ENDING:
+        material = XMaterial.GRAY_STAINED_GLASS;
+        break;
+      case RESTARTING:
+        material = XMaterial.BLACK_STAINED_GLASS;
+        break;
+      default:
+        return;
+    }
+    try {
+      behind.setType(material.parseMaterial());
+      if(legacySetData != null) {
+        legacySetData.invoke(behind, material.getData());
       }
-      arenaSign.getSign().update();
+    } catch(Exception ignored) {
     }
-    plugin.getDebugger().performance("SignUpdate", "[PerformanceMonitor] [SignUpdate] Updated signs took {0}ms", System.currentTimeMillis() - start);
   }
 
+  /**
+   * Signs can be added and removed through the returned list, new signs are appended
+   *
+   * @return all arena signs
+   */
   public List<ArenaSign> getArenaSigns() {
-    return arenaSigns;
+    return arenaSignsView;
   }
 
   public Map<ArenaState, String> getGameStateToString() {
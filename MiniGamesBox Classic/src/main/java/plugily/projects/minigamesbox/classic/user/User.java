@@ -21,6 +21,8 @@ package plugily.projects.minigamesbox.classic.user;
 
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
 import plugily.projects.minigamesbox.classic.PluginMain;
 import plugily.projects.minigamesbox.classic.api.StatisticType;
 import plugily.projects.minigamesbox.classic.api.event.player.PlugilyPlayerStatisticChangeEvent;
@@ -31,6 +33,7 @@ import plugily.projects.minigamesbox.classic.kits.basekits.Kit;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Tigerpanzer_02
@@ -44,8 +47,8 @@ public class User {
   private final UUID uuid;
   private boolean spectator = false;
   private boolean permanentSpectator = false;
-  private Kit kit = plugin.getKitRegistry().getDefaultKit();
-  private final Map<StatisticType, Integer> stats = new HashMap<>();
+  private Kit kit;
+  private final Map<StatisticType, Integer> stats = new ConcurrentHashMap<>();
   private final Map<String, Double> cooldowns = new HashMap<>();
 
   @Deprecated
@@ -54,7 +57,19 @@ public class User {
   }
 
   public User(UUID uuid) {
+    this(uuid, plugin.getKitRegistry().getDefaultKit());
+  }
+
+  /**
+   * Creates the user without looking up the default kit
+   *
+   * @param uuid unique id of the user
+   * @param kit  kit of the user
+   */
+  @TestOnly
+  protected User(UUID uuid, @Nullable Kit kit) {
     this.uuid = uuid;
+    this.kit = kit;
   }
 
   public UUID getUniqueId() {
@@ -91,6 +106,7 @@ public class User {
 
   public void setSpectator(boolean spectator) {
     this.spectator = spectator;
+    plugin.getUserManager().updateSpectator(this);
   }
 
   public boolean isPermanentSpectator() {
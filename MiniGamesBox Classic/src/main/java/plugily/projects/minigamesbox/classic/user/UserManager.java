@@ -21,6 +21,8 @@ package plugily.projects.minigamesbox.classic.user;
 
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
 import plugily.projects.minigamesbox.classic.PluginMain;
 import plugily.projects.minigamesbox.classic.api.StatisticType;
 import plugily.projects.minigamesbox.classic.arena.PluginArena;
@@ -30,7 +32,12 @@ import plugily.projects.minigamesbox.classic.user.data.MysqlManager;
 import plugily.projects.minigamesbox.classic.user.data.UserDatabase;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Tigerpanzer_02
@@ -40,7 +47,10 @@ import java.util.List;
 public class UserManager {
 
   private final UserDatabase database;
-  private final List<User> users = new ArrayList<>();
+  //concurrent as statistics are loaded and saved async when using mysql
+  private final Map<UUID, User> users = new ConcurrentHashMap<>();
+  //mirrors User#isSpectator so server-wide listeners can skip players without looking up or creating their user
+  private final Set<UUID> spectators = ConcurrentHashMap.newKeySet();
   private final PluginMain plugin;
 
   public UserManager(PluginMain plugin) {
@@ -53,23 +63,80 @@ public class UserManager {
     Bukkit.getScheduler().runTaskLater(plugin, this::loadStatsForPlayersOnline, 40);
   }
 
+  /**
+   * Creates the manager with already loaded users, statistics of online players are not loaded
+   *
+   * @param plugin   plugin to use
+   * @param database database of the statistics
+   * @param users    users to cache
+   */
+  @TestOnly
+  protected UserManager(PluginMain plugin, UserDatabase database, Collection<User> users) {
+    this.plugin = plugin;
+    this.database = database;
+    for(User user : users) {
+      this.users.put(user.getUniqueId(), user);
+    }
+  }
+
   private void loadStatsForPlayersOnline() {
     Bukkit.getServer().getOnlinePlayers().stream().map(this::getUser).forEach(this::loadStatistics);
   }
 
   public User getUser(Player player) {
-    java.util.UUID playerId = player.getUniqueId();
+    UUID playerId = player.getUniqueId();
+    User user = users.get(playerId);
 
-    for(User user : users) {
-      if(user.getUniqueId().equals(playerId)) {
-        return user;
-      }
+    if(user != null) {
+      return user;
+    }
+
+    return users.computeIfAbsent(playerId, uuid -> {
+      plugin.getDebugger().debug("Registering new user {0} ({1})", uuid, player.getName());
+      return new User(uuid);
+    });
+  }
+
+  /**
+   * Returns the cached user without registering a new one
+   *
+   * @param uuid unique id of the user
+   * @return cached user or null if there is none
+   */
+  @Nullable
+  public User getUser(UUID uuid) {
+    return users.get(uuid);
+  }
+
+  /**
+   * Checks if the player is a spectator without creating a user
+   *
+   * @param player player to check
+   * @return true if the user of the player is a spectator
+   */
+  public boolean isSpectator(Player player) {
+    return !spectators.isEmpty() && spectators.contains(player.getUniqueId());
+  }
+
+  /**
+   * @return true if at least one player is a spectator
+   */
+  public boolean hasSpectators() {
+    return !spectators.isEmpty();
+  }
+
+  void updateSpectator(User user) {
+    boolean changed = user.isSpectator() ? spectators.add(user.getUniqueId()) : spectators.remove(user.getUniqueId());
+    if(changed && plugin.getSpectatorEvents() != null) {
+      plugin.getSpectatorEvents().updateRegistration();
     }
+  }
 
-    plugin.getDebugger().debug("Registering new user {0} ({1})", playerId, player.getName());
-    User user = new User(playerId);
-    users.add(user);
-    return user;
+  /**
+   * @return amount of users currently cached
+   */
+  public int getUserCount() {
+    return users.size();
   }
 
   public List<User> getUsers(PluginArena arena) {
@@ -130,7 +197,31 @@ public class UserManager {
   }
 
   public void removeUser(User user) {
-    users.remove(user);
+    if(users.remove(user.getUniqueId(), user) && spectators.remove(user.getUniqueId()) && plugin.getSpectatorEvents() != null) {
+      plugin.getSpectatorEvents().updateRegistration();
+    }
+  }
+
+  /**
+   * Saves all statistics of the player and evicts the user
+   * once the save has been finished. The user is kept if the
+   * player came back online in the meantime.
+   *
+   * @param player player who left the server
+   */
+  public void unloadUser(Player player) {
+    User user = users.get(player.getUniqueId());
+
+    if(user == null) {
+      return;
+    }
+
+    database.saveAllStatistic(user, () -> {
+      if(Bukkit.getPlayer(user.getUniqueId()) == null) {
+        removeUser(user);
+        plugin.getDebugger().debug("Unloaded user {0}, {1} users cached", user.getUniqueId(), users.size());
+      }
+    });
   }
 
   public UserDatabase getDatabase() {
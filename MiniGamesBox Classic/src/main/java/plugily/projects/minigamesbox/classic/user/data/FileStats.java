@@ -30,7 +30,13 @@ import plugily.projects.minigamesbox.classic.api.StatisticType;
 import plugily.projects.minigamesbox.classic.user.User;
 import plugily.projects.minigamesbox.classic.utils.configuration.ConfigUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -43,6 +49,9 @@ import java.util.logging.Level;
  */
 public class FileStats implements UserDatabase, Runnable {
 
+  //best entry first, equal values are sorted by the uuid like the mysql order
+  private static final Comparator<StatEntry> RANKING = Comparator.<StatEntry>comparingInt(entry -> entry.value).reversed().thenComparing(entry -> entry.key);
+
   private final PluginMain plugin;
   private final FileConfiguration config;
   private final BukkitTask updateTask;
@@ -99,6 +108,60 @@ public class FileStats implements UserDatabase, Runnable {
     return SortUtils.sortByValue(stats);
   }
 
+  @NotNull
+  @Override
+  public Map<UUID, Integer> getTop(StatisticType stat, int offset, int limit) {
+    if(offset < 0 || limit <= 0) {
+      return Collections.emptyMap();
+    }
+    int capacity = (int) Math.min((long) offset + limit, Integer.MAX_VALUE - 1);
+    //the worst kept entry is at the head, so only offset + limit entries are held at any time
+    PriorityQueue<StatEntry> heap = new PriorityQueue<>(Math.min(capacity, 1024) + 1, RANKING.reversed());
+    for(String key : config.getKeys(false)) {
+      if(key.equals("data-version")) {
+        continue;
+      }
+      StatEntry entry = new StatEntry(key, config.getInt(key + "." + stat.getName()));
+      if(heap.size() < capacity) {
+        heap.add(entry);
+      } else if(RANKING.compare(entry, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(entry);
+      }
+    }
+    List<StatEntry> entries = new ArrayList<>(heap);
+    entries.sort(RANKING);
+    Map<UUID, Integer> top = new LinkedHashMap<>();
+    for(int i = offset; i < entries.size(); i++) {
+      StatEntry entry = entries.get(i);
+      try {
+        top.put(UUID.fromString(entry.key), entry.value);
+      } catch(IllegalArgumentException ex) {
+        plugin.getLogger().log(Level.WARNING, "Cannot load the UUID for {0}", entry.key);
+      }
+    }
+    return top;
+  }
+
+  @Override
+  public int getRank(UUID uuid, StatisticType stat) {
+    String uuidKey = uuid.toString();
+    if(!config.isConfigurationSection(uuidKey)) {
+      return 0;
+    }
+    StatEntry player = new StatEntry(uuidKey, config.getInt(uuidKey + "." + stat.getName()));
+    int rank = 1;
+    for(String key : config.getKeys(false)) {
+      if(key.equals("data-version") || key.equals(uuidKey)) {
+        continue;
+      }
+      if(RANKING.compare(new StatEntry(key, config.getInt(key + "." + stat.getName())), player) < 0) {
+        rank++;
+      }
+    }
+    return rank;
+  }
+
   @Override
   public void disable() {
     for(Player player : plugin.getServer().getOnlinePlayers()) {
@@ -144,4 +207,15 @@ public class FileStats implements UserDatabase, Runnable {
       Bukkit.getScheduler().runTask(plugin, () -> ConfigUtils.saveConfig(plugin, config, "stats"));
     }
   }
+
+  private static final class StatEntry {
+
+    private final String key;
+    private final int value;
+
+    private StatEntry(String key, int value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
 }
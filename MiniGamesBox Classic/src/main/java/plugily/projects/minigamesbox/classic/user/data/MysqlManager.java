@@ -30,6 +30,7 @@ import plugily.projects.minigamesbox.classic.user.User;
 import plugily.projects.minigamesbox.classic.utils.configuration.ConfigUtils;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -49,17 +50,22 @@ public class MysqlManager implements UserDatabase {
   private final PluginMain plugin;
   private final MysqlDatabase database;
   private final String createTableStatement;
+  //resolved once, statements run off the main thread and must not read the cached config
+  private final String tableName;
+  private final MysqlStatisticWriter statisticWriter;
 
   public MysqlManager(PluginMain plugin) {
     this.plugin = plugin;
-    this.createTableStatement = "CREATE TABLE IF NOT EXISTS `" + getTableName() + "` (\n"
+    FileConfiguration config = ConfigUtils.getConfig(plugin, "mysql");
+    this.tableName = config.getString("table", "playerstats");
+    this.createTableStatement = "CREATE TABLE IF NOT EXISTS `" + tableName + "` (\n"
         + "  `UUID` char(36) NOT NULL PRIMARY KEY,\n"
         + "  `name` varchar(32) NOT NULL\n"
         + ");";
-    FileConfiguration config = ConfigUtils.getConfig(plugin, "mysql");
     database = new MysqlDatabase(config.getString("user"), config.getString("password"), config.getString("address"), config.getLong("maxLifeTime", 1800000));
     plugin.getDebugger().debug("MySQL Database enabled");
     initializeTable(plugin);
+    statisticWriter = new MysqlStatisticWriter(plugin, database, this, Math.max(1, config.getLong("statisticsFlushInterval", 20)));
   }
 
   private void initializeTable(PluginMain plugin) {
@@ -90,7 +96,7 @@ public class MysqlManager implements UserDatabase {
   }
 
   public String getTableName() {
-    return ConfigUtils.getConfig(plugin, "mysql").getString("table", "playerstats");
+    return tableName;
   }
 
   @Override
@@ -119,17 +125,29 @@ public class MysqlManager implements UserDatabase {
     return database;
   }
 
+  /**
+   * Get the writer that queues and batches statistic saves
+   *
+   * @return statistic writer
+   */
+  public MysqlStatisticWriter getStatisticWriter() {
+    return statisticWriter;
+  }
+
   @Override
   public void saveStatistic(User user, StatisticType statisticType) {
-    Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-      database.executeUpdate("UPDATE " + getTableName() + " SET " + statisticType.getName() + "=" + user.getStatistic(statisticType) + " WHERE UUID='" + user.getUniqueId().toString() + "';");
-      plugin.getDebugger().debug("MySQL Table | Saved {0} statistic to {1} for {2}", statisticType.getName(), user.getStatistic(statisticType), user.getPlayer().getName());
-    });
+    statisticWriter.queue(user, Collections.singleton(statisticType), null);
+    plugin.getDebugger().debug("MySQL Table | Queued {0} statistic with {1} for {2}", statisticType.getName(), user.getStatistic(statisticType), user.getUniqueId());
   }
 
   @Override
   public void saveAllStatistic(User user) {
-    Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> database.executeUpdate(getUpdateQuery(user)));
+    statisticWriter.queue(user, plugin.getStatsStorage().getStatistics().values(), null);
+  }
+
+  @Override
+  public void saveAllStatistic(User user, Runnable callback) {
+    statisticWriter.queue(user, plugin.getStatsStorage().getStatistics().values(), callback);
   }
 
   @Override
@@ -209,6 +227,60 @@ public class MysqlManager implements UserDatabase {
     }
   }
 
+  @NotNull
+  @Override
+  public Map<UUID, Integer> getTop(StatisticType stat, int offset, int limit) {
+    if(offset < 0 || limit <= 0) {
+      return Collections.emptyMap();
+    }
+    try(Connection connection = database.getConnection();
+        PreparedStatement statement = connection.prepareStatement("SELECT UUID, " + stat.getName() + " FROM " + getTableName() + " ORDER BY " + stat.getName() + " DESC, UUID LIMIT ? OFFSET ?")) {
+      statement.setInt(1, limit);
+      statement.setInt(2, offset);
+      try(ResultSet resultSet = statement.executeQuery()) {
+        return getColumnData(stat, resultSet);
+      }
+    } catch(SQLException exception) {
+      throwException(exception);
+      return Collections.emptyMap();
+    }
+  }
+
+  @Override
+  public int getRank(UUID uuid, StatisticType stat) {
+    try(Connection connection = database.getConnection()) {
+      int value;
+      Player player = Bukkit.getPlayer(uuid);
+      if(player != null && player.isOnline()) {
+        value = plugin.getStatsStorage().getUserStats(player, stat);
+      } else {
+        try(PreparedStatement statement = connection.prepareStatement("SELECT " + stat.getName() + " FROM " + getTableName() + " WHERE UUID=?")) {
+          statement.setString(1, uuid.toString());
+          try(ResultSet resultSet = statement.executeQuery()) {
+            if(!resultSet.next()) {
+              return 0;
+            }
+            value = resultSet.getInt(1);
+          }
+        }
+      }
+      //only the amount of better rows is transferred instead of the table
+      try(PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM " + getTableName() + " WHERE UUID<>? AND (" + stat.getName() + ">? OR (" + stat.getName() + "=? AND UUID<?))")) {
+        String uuidString = uuid.toString();
+        statement.setString(1, uuidString);
+        statement.setInt(2, value);
+        statement.setInt(3, value);
+        statement.setString(4, uuidString);
+        try(ResultSet resultSet = statement.executeQuery()) {
+          return resultSet.next() ? resultSet.getInt(1) + 1 : 0;
+        }
+      }
+    } catch(SQLException exception) {
+      throwException(exception);
+      return 0;
+    }
+  }
+
   /**
    * Throw a general exception
    *
@@ -260,8 +332,9 @@ public class MysqlManager implements UserDatabase {
   @Override
   public void disable() {
     for(Player player : plugin.getServer().getOnlinePlayers()) {
-      database.executeUpdate(getUpdateQuery(plugin.getUserManager().getUser(player)));
+      saveAllStatistic(plugin.getUserManager().getUser(player));
     }
+    statisticWriter.shutdown();
     database.shutdownConnPool();
   }
 
@@ -280,25 +353,4 @@ public class MysqlManager implements UserDatabase {
       return null;
     }
   }
-
-  /**
-   * Build update query for all known statistics
-   *
-   * @param user
-   * @return
-   */
-  private @NotNull String getUpdateQuery(@NotNull User user) {
-    StringBuilder update = new StringBuilder(" SET ");
-    plugin.getStatsStorage().getStatistics().forEach((statistic, statisticType) -> {
-      if(statisticType.isPersistent()) {
-        if(!update.toString().equalsIgnoreCase(" SET ")) {
-          update.append(", ");
-        }
-        update.append(statisticType.getName()).append("=").append(user.getStatistic(statisticType));
-      }
-    });
-    String executeStatement = "UPDATE " + getTableName() + update + " WHERE UUID='" + user.getUniqueId().toString() + "';";
-    plugin.getDebugger().debug("MySQL Table | Executing Update Query {0} ", executeStatement);
-    return executeStatement;
-  }
 }
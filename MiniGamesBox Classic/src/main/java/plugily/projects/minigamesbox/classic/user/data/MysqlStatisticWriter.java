@@ -0,0 +1,278 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.classic.user.data;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import plugily.projects.commonsbox.database.MysqlDatabase;
+import plugily.projects.minigamesbox.classic.PluginMain;
+import plugily.projects.minigamesbox.classic.api.StatisticType;
+import plugily.projects.minigamesbox.classic.user.User;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Queues statistic saves, merges them per user and writes them
+ * as batched upserts in one transaction on a fixed interval.
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+public class MysqlStatisticWriter implements Runnable {
+
+  private final PluginMain plugin;
+  private final MysqlDatabase database;
+  private final MysqlManager mysqlManager;
+  private final Map<UUID, PendingSave> pendingSaves = new ConcurrentHashMap<>();
+  private final BukkitTask flushTask;
+  private volatile long lastFlushDuration = 0;
+  private volatile int lastBatchSize = 0;
+
+  public MysqlStatisticWriter(PluginMain plugin, MysqlDatabase database, MysqlManager mysqlManager, long flushInterval) {
+    this.plugin = plugin;
+    this.database = database;
+    this.mysqlManager = mysqlManager;
+    this.flushTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this, flushInterval, flushInterval);
+  }
+
+  /**
+   * Queues the current values of the statistics, values of the same user
+   * are merged until the next flush
+   *
+   * @param user       user to retrieve statistic from
+   * @param statistics statistics to save
+   * @param callback   callback to run on the main thread after the values have been written, can be null
+   */
+  public void queue(@NotNull User user, @NotNull Collection<StatisticType> statistics, Runnable callback) {
+    Map<String, Integer> values = new HashMap<>();
+    for(StatisticType statisticType : statistics) {
+      if(statisticType.isPersistent()) {
+        values.put(statisticType.getName(), user.getStatistic(statisticType));
+      }
+    }
+    Player player = user.getPlayer();
+    String name = player == null ? null : player.getName();
+    pendingSaves.compute(user.getUniqueId(), (uuid, pendingSave) -> {
+      if(pendingSave == null) {
+        pendingSave = new PendingSave();
+      }
+      if(name != null) {
+        pendingSave.name = name;
+      }
+      pendingSave.values.putAll(values);
+      pendingSave.sortedValues = null;
+      if(callback != null) {
+        pendingSave.callbacks.add(callback);
+      }
+      return pendingSave;
+    });
+    //saves with a callback come from players leaving, another server could load their statistics soon
+    if(callback != null && plugin.isEnabled()) {
+      Bukkit.getScheduler().runTaskAsynchronously(plugin, this::flush);
+    }
+  }
+
+  @Override
+  public void run() {
+    flush();
+  }
+
+  /**
+   * Writes all queued statistics on the current thread
+   */
+  public synchronized void flush() {
+    if(pendingSaves.isEmpty()) {
+      return;
+    }
+    long start = System.currentTimeMillis();
+    Map<UUID, PendingSave> saves = new LinkedHashMap<>();
+    for(UUID uuid : new ArrayList<>(pendingSaves.keySet())) {
+      PendingSave pendingSave = pendingSaves.remove(uuid);
+      if(pendingSave != null) {
+        saves.put(uuid, pendingSave);
+      }
+    }
+    //saves with the same columns share one prepared statement
+    Map<String, List<Map.Entry<UUID, PendingSave>>> groups = new HashMap<>();
+    for(Map.Entry<UUID, PendingSave> entry : saves.entrySet()) {
+      groups.computeIfAbsent(String.join(",", entry.getValue().getSortedValues().keySet()), columns -> new ArrayList<>()).add(entry);
+    }
+    boolean written = false;
+    try(Connection connection = database.getConnection()) {
+      if(connection == null) {
+        plugin.getDebugger().debug(Level.WARNING, "MySQL Table | Cannot write {0} statistic saves, no connection available", saves.size());
+      } else {
+        writeBatch(connection, groups);
+        written = true;
+      }
+    } catch(SQLException exception) {
+      plugin.getDebugger().debug(Level.WARNING, "MySQL Table | Failed to write statistics batch! Cause: {0} ({1})", exception.getSQLState(), exception.getErrorCode());
+    }
+    lastFlushDuration = System.currentTimeMillis() - start;
+    if(!written) {
+      requeue(saves);
+      plugin.getMessageUtils().errorOccurred();
+      Bukkit.getConsoleSender().sendMessage("Statistics of " + saves.size() + " players were queued again and will be written on the next try");
+      Bukkit.getConsoleSender().sendMessage("Check configuration of mysql.yml file or try to disable mysql option in config.yml");
+      return;
+    }
+    lastBatchSize = saves.size();
+    plugin.getDebugger().performance("StatisticWriter", "[PerformanceMonitor] [StatisticWriter] Wrote {0} users in {1}ms, {2} queued", lastBatchSize, lastFlushDuration, pendingSaves.size());
+    runCallbacks(saves.values());
+  }
+
+  /**
+   * Puts saves that could not be written back into the queue, values queued in the meantime are newer and win
+   */
+  private void requeue(Map<UUID, PendingSave> saves) {
+    for(Map.Entry<UUID, PendingSave> entry : saves.entrySet()) {
+      pendingSaves.merge(entry.getKey(), entry.getValue(), (queued, failed) -> {
+        failed.values.forEach(queued.values::putIfAbsent);
+        queued.sortedValues = null;
+        if(queued.name == null) {
+          queued.name = failed.name;
+        }
+        queued.callbacks.addAll(0, failed.callbacks);
+        return queued;
+      });
+    }
+  }
+
+  private void writeBatch(Connection connection, Map<String, List<Map.Entry<UUID, PendingSave>>> groups) throws SQLException {
+    connection.setAutoCommit(false);
+    try {
+      for(List<Map.Entry<UUID, PendingSave>> group : groups.values()) {
+        List<String> columns = new ArrayList<>(group.get(0).getValue().getSortedValues().keySet());
+        try(PreparedStatement statement = connection.prepareStatement(getUpsertQuery(columns))) {
+          for(Map.Entry<UUID, PendingSave> entry : group) {
+            statement.setString(1, entry.getKey().toString());
+            String name = entry.getValue().name;
+            statement.setString(2, name == null ? "" : name);
+            int index = 3;
+            for(Integer value : entry.getValue().getSortedValues().values()) {
+              statement.setInt(index++, value);
+            }
+            statement.addBatch();
+          }
+          statement.executeBatch();
+        }
+      }
+      connection.commit();
+    } catch(SQLException exception) {
+      connection.rollback();
+      throw exception;
+    } finally {
+      connection.setAutoCommit(true);
+    }
+  }
+
+  private String getUpsertQuery(List<String> columns) {
+    StringBuilder insert = new StringBuilder("INSERT INTO ").append(mysqlManager.getTableName()).append(" (UUID,name");
+    StringBuilder values = new StringBuilder(" VALUES (?,?");
+    StringBuilder update = new StringBuilder(" ON DUPLICATE KEY UPDATE ");
+    if(columns.isEmpty()) {
+      update.append("name=name");
+    }
+    for(int i = 0; i < columns.size(); i++) {
+      String column = columns.get(i);
+      insert.append(',').append(column);
+      values.append(",?");
+      if(i != 0) {
+        update.append(", ");
+      }
+      update.append(column).append("=VALUES(").append(column).append(')');
+    }
+    return insert.append(')').append(values).append(')').append(update).append(';').toString();
+  }
+
+  private void runCallbacks(Collection<PendingSave> saves) {
+    List<Runnable> callbacks = new ArrayList<>();
+    for(PendingSave pendingSave : saves) {
+      callbacks.addAll(pendingSave.callbacks);
+    }
+    if(callbacks.isEmpty()) {
+      return;
+    }
+    if(plugin.isEnabled()) {
+      Bukkit.getScheduler().runTask(plugin, () -> callbacks.forEach(Runnable::run));
+    }
+  }
+
+  /**
+   * Stops the flush task and writes all remaining statistics on the current thread,
+   * statistics that fail to be written on shutdown are lost
+   */
+  public void shutdown() {
+    flushTask.cancel();
+    flush();
+  }
+
+  /**
+   * @return amount of users with statistics waiting to be written
+   */
+  public int getQueueSize() {
+    return pendingSaves.size();
+  }
+
+  /**
+   * @return duration of the last flush in milliseconds
+   */
+  public long getLastFlushDuration() {
+    return lastFlushDuration;
+  }
+
+  /**
+   * @return amount of users written in the last flush
+   */
+  public int getLastBatchSize() {
+    return lastBatchSize;
+  }
+
+  private static final class PendingSave {
+
+    private String name;
+    private final Map<String, Integer> values = new HashMap<>();
+    private final List<Runnable> callbacks = new ArrayList<>(1);
+    private TreeMap<String, Integer> sortedValues;
+
+    private TreeMap<String, Integer> getSortedValues() {
+      if(sortedValues == null) {
+        sortedValues = new TreeMap<>(values);
+      }
+      return sortedValues;
+    }
+  }
+
+}
@@ -25,6 +25,10 @@ import plugily.projects.commonsbox.database.MysqlDatabase;
 import plugily.projects.minigamesbox.classic.api.StatisticType;
 import plugily.projects.minigamesbox.classic.user.User;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -50,6 +54,18 @@ public interface UserDatabase {
    */
   void saveAllStatistic(User user);
 
+  /**
+   * Saves player statistic into yaml or MySQL storage based on user choice
+   * and runs the callback on the main thread once the save has been finished
+   *
+   * @param user     user to retrieve statistic from
+   * @param callback callback to run after saving
+   */
+  default void saveAllStatistic(User user, Runnable callback) {
+    saveAllStatistic(user);
+    callback.run();
+  }
+
   /**
    * Loads player statistic from yaml or MySQL storage based on user choice
    *
@@ -81,6 +97,51 @@ public interface UserDatabase {
   @NotNull
   Map<UUID, Integer> getStats(StatisticType stat);
 
+  /**
+   * Get a page of the best players sorted descending by Statistic Type,
+   * equal values are sorted by the UUID. Blocks until the storage answered,
+   * so it should not be called on the main thread.
+   *
+   * @param stat   Statistic type to get (kills, deaths etc.)
+   * @param offset amount of best players to skip
+   * @param limit  maximum amount of players to return
+   * @return Map of UUID keys and Integer values sorted in descending order of requested statistic type
+   */
+  @NotNull
+  default Map<UUID, Integer> getTop(StatisticType stat, int offset, int limit) {
+    if(offset < 0 || limit <= 0) {
+      return Collections.emptyMap();
+    }
+    List<Map.Entry<UUID, Integer>> entries = new ArrayList<>(getStats(stat).entrySet());
+    entries.sort(Map.Entry.<UUID, Integer>comparingByValue().reversed().thenComparing(entry -> entry.getKey().toString()));
+    Map<UUID, Integer> top = new LinkedHashMap<>();
+    for(int i = offset; i < entries.size() && top.size() < limit; i++) {
+      top.put(entries.get(i).getKey(), entries.get(i).getValue());
+    }
+    return top;
+  }
+
+  /**
+   * Get the position of the player sorted descending by Statistic Type,
+   * equal values are sorted by the UUID. Blocks until the storage answered,
+   * so it should not be called on the main thread.
+   *
+   * @param uuid the UUID of the player
+   * @param stat Statistic type to get (kills, deaths etc.)
+   * @return position starting at 1 or 0 if the player has no statistics stored
+   */
+  default int getRank(UUID uuid, StatisticType stat) {
+    Map<UUID, Integer> top = getTop(stat, 0, Integer.MAX_VALUE);
+    int rank = 1;
+    for(UUID key : top.keySet()) {
+      if(key.equals(uuid)) {
+        return rank;
+      }
+      rank++;
+    }
+    return 0;
+  }
+
   /**
    * Disable the database
    */
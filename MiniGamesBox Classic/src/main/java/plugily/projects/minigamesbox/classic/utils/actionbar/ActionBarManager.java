@@ -19,120 +19,219 @@
 
 package plugily.projects.minigamesbox.classic.utils.actionbar;
 
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.scheduler.BukkitRunnable;
 import plugily.projects.commonsbox.string.StringFormatUtils;
 import plugily.projects.minigamesbox.classic.PluginMain;
 import plugily.projects.minigamesbox.classic.handlers.language.MessageBuilder;
+import plugily.projects.minigamesbox.classic.handlers.language.MessageTemplate;
 import plugily.projects.minigamesbox.classic.utils.version.VersionUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
 
 /**
  * @author Tigerpanzer_02
  * <p>
  * Created at 02.09.2022
  */
-public class ActionBarManager extends BukkitRunnable {
+public class ActionBarManager extends BukkitRunnable implements Listener {
+
+  //clients fade out action bars after a few seconds, unchanged text is sent again after this amount of ticks
+  private static final int RESEND_TICKS = 40;
+  private static final Comparator<QueuedActionBar> PRIORITY_ORDER = Comparator.<QueuedActionBar>comparingInt(queued -> -queued.actionBar.getPriority())
+      .thenComparingLong(queued -> queued.sequence);
 
   private final PluginMain plugin;
   private final int period = 10;
-  private Map<Player, List<ActionBar>> actionBars = new HashMap<>();
-  private Map<String, Integer> flashing = new HashMap<>();
+  private final Map<UUID, PlayerActionBars> actionBars = new HashMap<>();
+  //flashing frames by language key, frames without placeholders are rendered once
+  private final Map<String, FlashingFrames> flashingFrames = new HashMap<>();
+  private long sequence = 0;
 
 
   public ActionBarManager(PluginMain plugin) {
     this.plugin = plugin;
     runTaskTimer(plugin, 0L, period);
+    plugin.getServer().getPluginManager().registerEvents(this, plugin);
   }
 
-  @SuppressWarnings("deprecation")
   @Override
   public void run() {
     if(actionBars.isEmpty()) {
       return;
     }
-    for(Map.Entry<Player, List<ActionBar>> actionBarList : new HashMap<>(actionBars).entrySet()) {
-      Player player = actionBarList.getKey();
-      List<ActionBar> bars = new ArrayList<>(actionBarList.getValue());
-      if(bars.isEmpty()) {
-        return;
+    Iterator<Map.Entry<UUID, PlayerActionBars>> iterator = actionBars.entrySet().iterator();
+    while(iterator.hasNext()) {
+      Map.Entry<UUID, PlayerActionBars> entry = iterator.next();
+      Player player = Bukkit.getPlayer(entry.getKey());
+      PlayerActionBars bars = entry.getValue();
+      if(player == null) {
+        iterator.remove();
+        continue;
       }
-      new ArrayList<>(actionBarList.getValue()).stream().max(Comparator.comparingInt(ActionBar::getPriority)).ifPresent(actionBar -> {
-        switch(actionBar.getActionBarType()) {
-          case FLASHING:
-            if(flashing.containsKey(actionBar.getKey())) {
-              List<String> messages = plugin.getLanguageManager().getLanguageListFromKey(actionBar.getKey());
-              int size = flashing.get(actionBar.getKey());
-              if(size >= messages.size()) {
-                flashing.put(actionBar.getKey(), 0);
-              } else {
-                flashing.put(actionBar.getKey(), size + 1);
-              }
-              VersionUtils.sendActionBar(player, new MessageBuilder(messages.get(size)).integer(actionBar.getTicks() - actionBar.getExecutedTicks() / 20).build());
-              break;
-            }
-            flashing.put(actionBar.getKey(), -1);
-            break;
-          case COOLDOWN:
-            bars.remove(actionBar);
-            VersionUtils.sendActionBar(player, actionBar.getMessage().integer(actionBar.getTicks() - actionBar.getExecutedTicks() / 20).build());
-            break;
-          case DISPLAY:
-            VersionUtils.sendActionBar(player, actionBar.getMessage().integer(actionBar.getTicks() - actionBar.getExecutedTicks() / 20).build());
-            break;
-          case PROGRESS:
-            String progress =
-                StringFormatUtils.getProgressBar(
-                    actionBar.getExecutedTicks(),
-                    actionBar.getTicks(),
-                    10,
-                    "■",
-                    ChatColor.COLOR_CHAR + "a",
-                    ChatColor.COLOR_CHAR + "c");
-            VersionUtils.sendActionBar(player, actionBar.getMessage().value(progress).integer(actionBar.getTicks() - actionBar.getExecutedTicks() / 20).build());
-            break;
-          default:
-            break;
-        }
-        removeFinishedActionBar(player, actionBar);
-      });
-      for(ActionBar actionBar : bars) {
-        if(actionBar.getActionBarType() == ActionBar.ActionBarType.COOLDOWN || actionBar.getActionBarType() == ActionBar.ActionBarType.PROGRESS) {
-          actionBar.addExecutedTicks(period);
+      QueuedActionBar top = bars.queue.peek();
+      if(top != null) {
+        send(player, bars, render(top));
+      }
+      if(bars.tick(period)) {
+        if(bars.flashingEnded) {
+          send(player, bars, "");
         }
-        removeFinishedActionBar(player, actionBar);
+        iterator.remove();
       }
     }
   }
 
-  private void removeFinishedActionBar(Player player, ActionBar actionBar) {
-    if(actionBar.getExecutedTicks() >= actionBar.getTicks()) {
-      if(actionBar.getActionBarType() == ActionBar.ActionBarType.FLASHING) {
-        VersionUtils.sendActionBar(player, "");
-        flashing.remove(actionBar.getKey());
-      }
-      actionBars.get(player).remove(actionBar);
+  @SuppressWarnings("deprecation")
+  private void send(Player player, PlayerActionBars bars, String message) {
+    if(message.equals(bars.lastMessage) && bars.ticksSinceSend < RESEND_TICKS) {
+      bars.ticksSinceSend += period;
+      return;
+    }
+    VersionUtils.sendActionBar(player, message);
+    bars.lastMessage = message;
+    bars.ticksSinceSend = period;
+  }
+
+  private String render(QueuedActionBar queued) {
+    ActionBar actionBar = queued.actionBar;
+    int remaining = actionBar.getTicks() - actionBar.getExecutedTicks() / 20;
+    switch(actionBar.getActionBarType()) {
+      case FLASHING:
+        FlashingFrames frames = flashingFrames.computeIfAbsent(actionBar.getKey(), FlashingFrames::new);
+        if(frames.size() == 0) {
+          return "";
+        }
+        return frames.get(queued.frame++ % frames.size(), remaining);
+      case PROGRESS:
+        String progress =
+            StringFormatUtils.getProgressBar(
+                actionBar.getExecutedTicks(),
+                actionBar.getTicks(),
+                10,
+                "■",
+                ChatColor.COLOR_CHAR + "a",
+                ChatColor.COLOR_CHAR + "c");
+        //the template of the bar stays unbuilt, otherwise every period would wrap the last result again
+        return actionBar.getMessage().copy().value(progress).integer(remaining).build();
+      case COOLDOWN:
+      case DISPLAY:
+        return actionBar.getMessage().copy().integer(remaining).build();
+      default:
+        return "";
     }
   }
 
+  /**
+   * Drops the pre rendered flashing frames, used on language reload
+   */
+  public void clearFlashingFrames() {
+    flashingFrames.clear();
+  }
+
+  @EventHandler
+  public void onQuit(PlayerQuitEvent event) {
+    actionBars.remove(event.getPlayer().getUniqueId());
+  }
+
+  /**
+   * @return snapshot of all queued action bars of online players
+   */
   public Map<Player, List<ActionBar>> getActionBars() {
-    return Collections.unmodifiableMap(actionBars);
+    Map<Player, List<ActionBar>> snapshot = new HashMap<>();
+    for(Map.Entry<UUID, PlayerActionBars> entry : actionBars.entrySet()) {
+      Player player = Bukkit.getPlayer(entry.getKey());
+      if(player == null) {
+        continue;
+      }
+      List<ActionBar> bars = new ArrayList<>(entry.getValue().queue.size());
+      for(QueuedActionBar queued : entry.getValue().queue) {
+        bars.add(queued.actionBar);
+      }
+      snapshot.put(player, bars);
+    }
+    return Collections.unmodifiableMap(snapshot);
   }
 
   public void addActionBar(Player player, ActionBar actionBar) {
-    if(actionBars.containsKey(player)) {
-      List<ActionBar> bars = actionBars.get(player);
-      bars.add(actionBar);
-      actionBars.put(player, bars);
-      return;
+    actionBars.computeIfAbsent(player.getUniqueId(), uuid -> new PlayerActionBars()).queue.add(new QueuedActionBar(actionBar, sequence++));
+  }
+
+  private static final class QueuedActionBar {
+
+    private final ActionBar actionBar;
+    //bars with the same priority are shown in the order they were added
+    private final long sequence;
+    private int frame = 0;
+
+    private QueuedActionBar(ActionBar actionBar, long sequence) {
+      this.actionBar = actionBar;
+      this.sequence = sequence;
+    }
+  }
+
+  private static final class PlayerActionBars {
+
+    private final PriorityQueue<QueuedActionBar> queue = new PriorityQueue<>(PRIORITY_ORDER);
+    private String lastMessage;
+    private int ticksSinceSend;
+    private boolean flashingEnded;
+
+    /**
+     * Advances all bars and removes the finished ones
+     *
+     * @return true if no bar is left
+     */
+    private boolean tick(int period) {
+      flashingEnded = false;
+      Iterator<QueuedActionBar> iterator = queue.iterator();
+      while(iterator.hasNext()) {
+        ActionBar actionBar = iterator.next().actionBar;
+        actionBar.addExecutedTicks(period);
+        if(actionBar.getExecutedTicks() >= actionBar.getTicks()) {
+          flashingEnded |= actionBar.getActionBarType() == ActionBar.ActionBarType.FLASHING;
+          iterator.remove();
+        }
+      }
+      return queue.isEmpty();
+    }
+  }
+
+  private final class FlashingFrames {
+
+    private final List<String> frames;
+    private final String[] renderedFrames;
+
+    private FlashingFrames(String key) {
+      frames = plugin.getLanguageManager().getLanguageListFromKey(key);
+      renderedFrames = new String[frames.size()];
+      for(int i = 0; i < renderedFrames.length; i++) {
+        if(!MessageTemplate.compile(frames.get(i)).hasPlaceholders()) {
+          renderedFrames[i] = new MessageBuilder(frames.get(i)).build();
+        }
+      }
+    }
+
+    private int size() {
+      return frames.size();
+    }
+
+    private String get(int frame, int number) {
+      String rendered = renderedFrames[frame];
+      return rendered != null ? rendered : new MessageBuilder(frames.get(frame)).integer(number).build();
     }
-    actionBars.put(player, new ArrayList<>(Collections.singleton(actionBar)));
   }
 }
@@ -27,6 +27,10 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Tigerpanzer_02
@@ -35,6 +39,10 @@ import java.io.IOException;
  */
 public class ConfigUtils {
 
+  //how often the modification time of a cached file is checked against the disk
+  private static final long MODIFICATION_CHECK_INTERVAL = 1000L;
+  private static final Map<String, CachedConfig> cachedConfigs = new ConcurrentHashMap<>();
+
   /**
    * Gets fileconfiguration from data folder of plugin, creates new if not exists
    *
@@ -47,7 +55,13 @@ public class ConfigUtils {
   }
 
   /**
-   * Gets fileconfiguration from data folder of plugin, creates new if not exists
+   * Gets fileconfiguration from data folder of plugin, creates new if not exists.
+   * The parsed file is cached until the file gets modified on disk or the cache
+   * is invalidated with {@link #invalidateCache(JavaPlugin)}
+   * <p>
+   * The returned instance is shared between all callers and is not a copy, changes
+   * are visible to everyone right away even without saving. It must only be read and
+   * modified on the main thread, async tasks should copy the values they need beforehand
    *
    * @param plugin     javaplugin to get datafolder
    * @param filename   file name (without .yml)
@@ -55,8 +69,14 @@ public class ConfigUtils {
    * @return FileConfiguration to edit file
    */
   public static FileConfiguration getConfig(JavaPlugin plugin, String filename, boolean createFile) {
-    File file = new File(plugin.getDataFolder() + File.separator + filename + ".yml");
+    File file = new File(plugin.getDataFolder(), filename + ".yml");
+    String key = file.getAbsolutePath();
+    CachedConfig cachedConfig = cachedConfigs.get(key);
+    if(cachedConfig != null && cachedConfig.isUpToDate()) {
+      return cachedConfig.config;
+    }
     if(!file.exists()) {
+      cachedConfigs.remove(key);
       if(createFile) {
         plugin.getLogger().info("Creating " + filename + ".yml because it does not exist!");
         plugin.saveResource(filename + ".yml", true);
@@ -65,8 +85,8 @@ public class ConfigUtils {
         return null;
       }
     }
-    file = new File(plugin.getDataFolder(), filename + ".yml");
     YamlConfiguration config = new YamlConfiguration();
+    long lastModified = file.lastModified();
     try {
       config.load(file);
     } catch(InvalidConfigurationException | IOException ex) {
@@ -74,23 +94,151 @@ public class ConfigUtils {
       Bukkit.getConsoleSender().sendMessage("Cannot load file " + filename + ".yml!");
       Bukkit.getConsoleSender().sendMessage("Create blank file " + filename + ".yml or restart the server!");
     }
+    cachedConfigs.put(key, new CachedConfig(file, config, lastModified));
     return config;
   }
 
   /**
-   * Saves config to specified name
+   * Saves config to specified name.
+   * Saves are coalesced and written to disk once per tick off the main thread,
+   * the saved config instance is served by {@link #getConfig(JavaPlugin, String)} meanwhile
    *
    * @param plugin javaplugin to get data folder
    * @param config FileConfiguration to save
    * @param name   file name to save (without .yml)
    */
   public static void saveConfig(JavaPlugin plugin, FileConfiguration config, String name) {
-    try {
-      config.save(new File(plugin.getDataFolder(), name + ".yml"));
-    } catch(IOException e) {
-      e.printStackTrace();
-      Bukkit.getConsoleSender().sendMessage("Cannot save file " + name + ".yml!");
-      Bukkit.getConsoleSender().sendMessage("Create blank file " + name + ".yml or restart the server!");
+    File file = new File(plugin.getDataFolder(), name + ".yml");
+    CachedConfig cachedConfig = cachedConfigs.compute(file.getAbsolutePath(), (key, cached) ->
+        cached != null && cached.config == config ? cached : new CachedConfig(file, config, file.lastModified()));
+    if(!plugin.isEnabled()) {
+      cachedConfig.prepareWrite();
+      cachedConfig.write();
+      return;
+    }
+    if(cachedConfig.markDirty()) {
+      Bukkit.getScheduler().runTask(plugin, () -> {
+        cachedConfig.prepareWrite();
+        if(plugin.isEnabled()) {
+          Bukkit.getScheduler().runTaskAsynchronously(plugin, cachedConfig::write);
+        } else {
+          cachedConfig.write();
+        }
+      });
+    }
+  }
+
+  /**
+   * Writes all pending saves of the plugin to disk on the current thread.
+   * Should be called on plugin disable as scheduled saves won't run anymore.
+   *
+   * @param plugin javaplugin to get data folder
+   */
+  public static void flushPendingSaves(JavaPlugin plugin) {
+    String dataFolder = plugin.getDataFolder().getAbsolutePath() + File.separator;
+    for(Map.Entry<String, CachedConfig> entry : cachedConfigs.entrySet()) {
+      if(entry.getKey().startsWith(dataFolder) && entry.getValue().isDirty()) {
+        entry.getValue().prepareWrite();
+        entry.getValue().write();
+      }
+    }
+  }
+
+  /**
+   * Writes pending saves and drops all cached files of the plugin,
+   * next {@link #getConfig(JavaPlugin, String)} call will parse the file again
+   *
+   * @param plugin javaplugin to get data folder
+   */
+  public static void invalidateCache(JavaPlugin plugin) {
+    flushPendingSaves(plugin);
+    String dataFolder = plugin.getDataFolder().getAbsolutePath() + File.separator;
+    cachedConfigs.keySet().removeIf(key -> key.startsWith(dataFolder));
+  }
+
+  private static final class CachedConfig {
+
+    private final File file;
+    private final FileConfiguration config;
+    private final Object ioLock = new Object();
+    private long lastModified;
+    private long lastCheck = System.currentTimeMillis();
+    //pending saves and writes that have been serialized but are not on disk yet
+    private boolean dirty = false;
+    private int writing = 0;
+    private String pendingData;
+
+    private CachedConfig(File file, FileConfiguration config, long lastModified) {
+      this.file = file;
+      this.config = config;
+      this.lastModified = lastModified;
+    }
+
+    private synchronized boolean isUpToDate() {
+      //our own changes are newer than the file on disk
+      if(dirty || writing > 0) {
+        return true;
+      }
+      long now = System.currentTimeMillis();
+      if(now - lastCheck < MODIFICATION_CHECK_INTERVAL) {
+        return true;
+      }
+      lastCheck = now;
+      return file.lastModified() == lastModified;
+    }
+
+    private synchronized boolean isDirty() {
+      return dirty;
+    }
+
+    /**
+     * @return true if no save was pending yet
+     */
+    private synchronized boolean markDirty() {
+      boolean wasDirty = dirty;
+      dirty = true;
+      return !wasDirty;
+    }
+
+    private synchronized void prepareWrite() {
+      dirty = false;
+      writing++;
+      pendingData = config.saveToString();
+    }
+
+    private void write() {
+      //file access is serialized on its own lock so state checks never wait for the disk,
+      //data is taken inside of it to always write the latest serialized data last and only once
+      synchronized(ioLock) {
+        String data;
+        synchronized(this) {
+          data = pendingData;
+          pendingData = null;
+        }
+        try {
+          if(data == null) {
+            return;
+          }
+          File parent = file.getParentFile();
+          if(parent != null && !parent.exists()) {
+            parent.mkdirs();
+          }
+          Files.write(file.toPath(), data.getBytes(StandardCharsets.UTF_8));
+          long modified = file.lastModified();
+          synchronized(this) {
+            lastModified = modified;
+            lastCheck = System.currentTimeMillis();
+          }
+        } catch(IOException e) {
+          e.printStackTrace();
+          Bukkit.getConsoleSender().sendMessage("Cannot save file " + file.getName() + "!");
+          Bukkit.getConsoleSender().sendMessage("Create blank file " + file.getName() + " or restart the server!");
+        } finally {
+          synchronized(this) {
+            writing--;
+          }
+        }
+      }
     }
   }
 
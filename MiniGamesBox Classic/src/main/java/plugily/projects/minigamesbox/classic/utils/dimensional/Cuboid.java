@@ -21,18 +21,26 @@ package plugily.projects.minigamesbox.classic.utils.dimensional;
 
 
 import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
+import plugily.projects.minigamesbox.classic.PluginMain;
+import plugily.projects.minigamesbox.classic.utils.version.ServerVersion;
+import plugily.projects.minigamesbox.classic.utils.version.VersionUtils;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Predicate;
 
 public class Cuboid {
 
+  //chunk snapshots return block types from 1.13 on, older versions read the blocks directly
+  private static final boolean SNAPSHOT_TYPES = ServerVersion.Version.isCurrentEqualOrHigher(ServerVersion.Version.v1_13_R1);
+
   private final int xMin, xMax, yMin, yMax, zMin, zMax;
   private final double xMinCentered, xMaxCentered, yMinCentered, yMaxCentered, zMinCentered, zMaxCentered;
   private final World world;
@@ -88,13 +96,10 @@ public class Cuboid {
   }
 
   public List<Chunk> chunkList() {
-    List<Block> blockList = blockList();
-    List<Chunk> chunks = new ArrayList<>(blockList.size());
-
-    for(Block block : blockList) {
-      Chunk chunk = block.getChunk();
-      if(!chunks.contains(chunk)) {
-        chunks.add(chunk);
+    List<Chunk> chunks = new ArrayList<>(((xMax >> 4) - (xMin >> 4) + 1) * ((zMax >> 4) - (zMin >> 4) + 1));
+    for(int chunkX = xMin >> 4; chunkX <= xMax >> 4; chunkX++) {
+      for(int chunkZ = zMin >> 4; chunkZ <= zMax >> 4; chunkZ++) {
+        chunks.add(world.getChunkAt(chunkX, chunkZ));
       }
     }
     return chunks;
@@ -162,39 +167,96 @@ public class Cuboid {
   }
 
   public boolean isEmpty() {
-    for(Block block : blockList()) {
-      if(block.getType() != Material.AIR) {
-        return false;
-      }
-    }
-    return true;
+    return !anyBlockMatches(type -> type != Material.AIR, false);
   }
 
   public boolean contains(final Material material) {
-    for(Block block : blockList()) {
-      if(block.getType() == material) {
-        return true;
+    return anyBlockMatches(type -> type == material, material == Material.AIR);
+  }
+
+  /**
+   * Reads the block types chunk by chunk, sections without blocks are skipped as a whole
+   *
+   * @param predicate           check of the block types
+   * @param emptySectionMatches result of the predicate for air
+   * @return true if the predicate matches any block of the cuboid
+   */
+  private boolean anyBlockMatches(final Predicate<Material> predicate, final boolean emptySectionMatches) {
+    int minHeight = VersionUtils.getWorldMinHeight(world);
+    for(int chunkX = xMin >> 4; chunkX <= xMax >> 4; chunkX++) {
+      for(int chunkZ = zMin >> 4; chunkZ <= zMax >> 4; chunkZ++) {
+        Chunk chunk = world.getChunkAt(chunkX, chunkZ);
+        int fromX = Math.max(xMin, chunkX << 4) & 15;
+        int toX = Math.min(xMax, (chunkX << 4) + 15) & 15;
+        int fromZ = Math.max(zMin, chunkZ << 4) & 15;
+        int toZ = Math.min(zMax, (chunkZ << 4) + 15) & 15;
+        ChunkSnapshot snapshot = SNAPSHOT_TYPES ? chunk.getChunkSnapshot(false, false, false) : null;
+        for(int y = yMin; y <= yMax; y++) {
+          if(snapshot != null && snapshot.isSectionEmpty((y - minHeight) >> 4)) {
+            if(emptySectionMatches) {
+              return true;
+            }
+            //continue with the first layer of the next section
+            y |= 15;
+            continue;
+          }
+          for(int z = fromZ; z <= toZ; z++) {
+            for(int x = fromX; x <= toX; x++) {
+              Material type = snapshot != null ? snapshot.getBlockType(x, y, z) : chunk.getBlock(x, y, z).getType();
+              if(predicate.test(type)) {
+                return true;
+              }
+            }
+          }
+        }
       }
     }
     return false;
   }
 
   public void fill(final Material material) {
-    for(Block block : blockList()) {
-      block.setType(material);
-    }
+    edit(null, yMin, yMax, material, null, 0).runAll();
   }
 
   public void fillWithoutFloor(final Material material) {
-    for(Block block : blockListWithoutFloor()) {
-      block.setType(material);
-    }
+    edit(null, yMin + 1, yMax, material, null, 0).runAll();
   }
 
   public void fillFloor(final Material material) {
-    for(Block block : floorBlockList()) {
-      block.setType(material);
-    }
+    edit(null, yMin, yMin, material, null, 0).runAll();
+  }
+
+  public void replace(final Material replaced, final Material material) {
+    edit(null, yMin, yMax, material, replaced, 0).runAll();
+  }
+
+  /**
+   * Fills the cuboid over multiple ticks, spending at most the given time per tick
+   *
+   * @param plugin           plugin to run the task with
+   * @param material         material to fill with
+   * @param maxMillisPerTick time budget per tick
+   * @return started task to follow the progress
+   */
+  public CuboidEditTask fill(final PluginMain plugin, final Material material, final long maxMillisPerTick) {
+    return edit(plugin, yMin, yMax, material, null, maxMillisPerTick).start();
+  }
+
+  /**
+   * Replaces the blocks of one material over multiple ticks, spending at most the given time per tick
+   *
+   * @param plugin           plugin to run the task with
+   * @param replaced         material to replace
+   * @param material         material to replace with
+   * @param maxMillisPerTick time budget per tick
+   * @return started task to follow the progress
+   */
+  public CuboidEditTask replace(final PluginMain plugin, final Material replaced, final Material material, final long maxMillisPerTick) {
+    return edit(plugin, yMin, yMax, material, replaced, maxMillisPerTick).start();
+  }
+
+  private CuboidEditTask edit(final PluginMain plugin, final int fromY, final int toY, final Material material, final Material replaced, final long maxMillisPerTick) {
+    return new CuboidEditTask(plugin, world, xMin, xMax, fromY, toY, zMin, zMax, material, replaced, maxMillisPerTick);
   }
 
   public boolean collidesWith(final Cuboid other) {
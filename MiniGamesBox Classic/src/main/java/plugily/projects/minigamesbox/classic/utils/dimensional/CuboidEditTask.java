@@ -0,0 +1,247 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.classic.utils.dimensional;
+
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.jetbrains.annotations.Nullable;
+import plugily.projects.minigamesbox.classic.PluginMain;
+import plugily.projects.minigamesbox.classic.utils.version.ServerVersion;
+
+import java.util.function.Consumer;
+
+/**
+ * Fills or replaces the blocks of a cuboid chunk by chunk and from the lowest section
+ * upwards, limited to a time budget per tick so big arenas do not stall the server.
+ * Blocks are changed without physics and only if their type differs.
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+public class CuboidEditTask extends BukkitRunnable {
+
+  private static final boolean BLOCK_DATA = ServerVersion.Version.isCurrentEqualOrHigher(ServerVersion.Version.v1_13_R1);
+  //System.nanoTime is only checked every few blocks
+  private static final int BUDGET_CHECK_INTERVAL = 64;
+
+  private final PluginMain plugin;
+  private final World world;
+  private final int xMin, xMax, yMin, yMax, zMin, zMax;
+  private final int chunkXMin, chunkZMin, chunkXWidth, chunkCount;
+  private final Material material;
+  private final Object blockData;
+  private final Material replaced;
+  private final long budgetNanos;
+  private final long totalBlocks;
+
+  private Consumer<CuboidEditTask> progressListener;
+  private Consumer<CuboidEditTask> completeListener;
+
+  private int chunkIndex = 0;
+  private int blockIndex = 0;
+  private long processedBlocks = 0;
+  private long changedBlocks = 0;
+  private long startedAt = -1;
+  private long workNanos = 0;
+  private int ticks = 0;
+  private boolean done = false;
+
+  //plugin is null for edits that are only processed at once through runAll
+  CuboidEditTask(@Nullable PluginMain plugin, World world, int xMin, int xMax, int yMin, int yMax, int zMin, int zMax,
+                 Material material, @Nullable Material replaced, long maxMillisPerTick) {
+    this.plugin = plugin;
+    this.world = world;
+    this.xMin = xMin;
+    this.xMax = xMax;
+    this.yMin = yMin;
+    this.yMax = yMax;
+    this.zMin = zMin;
+    this.zMax = zMax;
+    this.chunkXMin = xMin >> 4;
+    this.chunkZMin = zMin >> 4;
+    this.chunkXWidth = (xMax >> 4) - chunkXMin + 1;
+    this.chunkCount = yMax < yMin ? 0 : chunkXWidth * ((zMax >> 4) - chunkZMin + 1);
+    this.material = material;
+    this.blockData = blockData(material);
+    this.replaced = replaced;
+    this.budgetNanos = maxMillisPerTick * 1_000_000L;
+    this.totalBlocks = yMax < yMin ? 0 : (long) (xMax - xMin + 1) * (yMax - yMin + 1) * (zMax - zMin + 1);
+  }
+
+  /**
+   * @param listener called after every tick in which blocks were processed
+   * @return this task
+   */
+  public CuboidEditTask onProgress(Consumer<CuboidEditTask> listener) {
+    this.progressListener = listener;
+    return this;
+  }
+
+  /**
+   * @param listener called once all blocks were processed
+   * @return this task
+   */
+  public CuboidEditTask onComplete(Consumer<CuboidEditTask> listener) {
+    this.completeListener = listener;
+    return this;
+  }
+
+  CuboidEditTask start() {
+    runTaskTimer(plugin, 0, 1);
+    return this;
+  }
+
+  /**
+   * Processes all blocks in the current tick, used by the synchronous cuboid methods
+   */
+  void runAll() {
+    process(Long.MAX_VALUE);
+  }
+
+  @Override
+  public void run() {
+    ticks++;
+    process(System.nanoTime() + budgetNanos);
+    if(progressListener != null) {
+      progressListener.accept(this);
+    }
+    if(done) {
+      cancel();
+      plugin.getDebugger().performance("CuboidEdit", "[PerformanceMonitor] Cuboid edit of {0} blocks ({1} changed) took {2}ms in {3} ticks",
+          processedBlocks, changedBlocks, getWorkMillis(), ticks);
+      if(completeListener != null) {
+        completeListener.accept(this);
+      }
+    }
+  }
+
+  private void process(long deadline) {
+    long start = System.nanoTime();
+    if(startedAt == -1) {
+      startedAt = System.currentTimeMillis();
+    }
+    int checkCounter = 0;
+    while(chunkIndex < chunkCount) {
+      int chunkX = chunkXMin + chunkIndex % chunkXWidth;
+      int chunkZ = chunkZMin + chunkIndex / chunkXWidth;
+      Chunk chunk = world.getChunkAt(chunkX, chunkZ);
+      //part of the cuboid inside of this chunk
+      int fromX = Math.max(xMin, chunkX << 4);
+      int fromZ = Math.max(zMin, chunkZ << 4);
+      int width = Math.min(xMax, (chunkX << 4) + 15) - fromX + 1;
+      int depth = Math.min(zMax, (chunkZ << 4) + 15) - fromZ + 1;
+      int layer = width * depth;
+      int size = layer * (yMax - yMin + 1);
+
+      while(blockIndex < size) {
+        int x = fromX + blockIndex % width;
+        int z = fromZ + (blockIndex / width) % depth;
+        int y = yMin + blockIndex / layer;
+        blockIndex++;
+        processedBlocks++;
+        if(apply(chunk.getBlock(x & 15, y, z & 15))) {
+          changedBlocks++;
+        }
+        if(++checkCounter == BUDGET_CHECK_INTERVAL) {
+          checkCounter = 0;
+          if(System.nanoTime() >= deadline) {
+            workNanos += System.nanoTime() - start;
+            return;
+          }
+        }
+      }
+      blockIndex = 0;
+      chunkIndex++;
+    }
+    done = true;
+    workNanos += System.nanoTime() - start;
+  }
+
+  private boolean apply(Block block) {
+    Material type = block.getType();
+    if(type == material || (replaced != null && type != replaced)) {
+      return false;
+    }
+    setType(block, material, blockData);
+    return true;
+  }
+
+  @Nullable
+  static Object blockData(Material material) {
+    return BLOCK_DATA ? material.createBlockData() : null;
+  }
+
+  /**
+   * Changes the block without physics, using the prepared block data on 1.13 and above
+   */
+  static void setType(Block block, Material material, @Nullable Object blockData) {
+    if(blockData != null) {
+      block.setBlockData((org.bukkit.block.data.BlockData) blockData, false);
+    } else {
+      block.setType(material, false);
+    }
+  }
+
+  public long getTotalBlocks() {
+    return totalBlocks;
+  }
+
+  public long getProcessedBlocks() {
+    return processedBlocks;
+  }
+
+  public long getChangedBlocks() {
+    return changedBlocks;
+  }
+
+  /**
+   * @return processed share of the cuboid between 0 and 1
+   */
+  public double getProgress() {
+    return totalBlocks == 0 ? 1 : (double) processedBlocks / totalBlocks;
+  }
+
+  public boolean isDone() {
+    return done;
+  }
+
+  /**
+   * @return time spent changing blocks, without the ticks in between
+   */
+  public long getWorkMillis() {
+    return workNanos / 1_000_000L;
+  }
+
+  /**
+   * @return time since the first processed tick
+   */
+  public long getElapsedMillis() {
+    return startedAt == -1 ? 0 : System.currentTimeMillis() - startedAt;
+  }
+
+  public int getTicks() {
+    return ticks;
+  }
+
+}
@@ -19,11 +19,8 @@
 
 package plugily.projects.minigamesbox.classic.utils.engine;
 
-import org.bukkit.Bukkit;
-
 import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
-import java.util.logging.Level;
 
 /**
  * @author Tigerpanzer_02
@@ -50,11 +47,7 @@ public class ScriptEngine {
     try {
       scriptEngine.eval(executable);
     } catch(ScriptException e) {
-      Bukkit.getLogger().log(Level.SEVERE, "Script failed to parse expression! Expression was written wrongly!");
-      Bukkit.getLogger().log(Level.SEVERE, "Expression value: " + executable);
-      Bukkit.getLogger().log(Level.SEVERE, "Error log:");
-      e.printStackTrace();
-      Bukkit.getLogger().log(Level.SEVERE, "---- THIS IS AN ISSUE BY USER CONFIGURATION NOT AUTHOR BUG ----");
+      ScriptRuntime.logScriptError(executable, e);
     }
   }
 
@@ -0,0 +1,100 @@
+/*
+ * MiniGamesBox - Library box with massive content that could be seen as minigames core.
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02 and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.classic.utils.engine;
+
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * Shared script runtime, keeps one engine per thread and runs
+ * precompiled scripts with their own bindings for every call
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class ScriptRuntime {
+
+  private static final ScriptEngineManager engineManager = new ScriptEngineManager();
+  private static final ThreadLocal<javax.script.ScriptEngine> engines = ThreadLocal.withInitial(() -> engineManager.getEngineByName("js"));
+
+  private ScriptRuntime() {
+  }
+
+  /**
+   * Compiles the script with the engine of the current thread
+   *
+   * @param executable script source
+   * @return compiled script or null if no engine is available or it can't compile scripts
+   * @throws ScriptException if the script source is invalid
+   */
+  @Nullable
+  public static CompiledScript compile(@NotNull String executable) throws ScriptException {
+    javax.script.ScriptEngine scriptEngine = engines.get();
+    if(!(scriptEngine instanceof Compilable)) {
+      return null;
+    }
+    return ((Compilable) scriptEngine).compile(executable);
+  }
+
+  /**
+   * Runs the compiled script, falls back to evaluating the source if the
+   * script was compiled by the engine of another thread
+   *
+   * @param compiledScript script compiled by {@link #compile(String)}, may be null
+   * @param executable     script source
+   * @param values         values bound to the script for this call
+   */
+  public static void execute(@Nullable CompiledScript compiledScript, @NotNull String executable, @NotNull Map<String, Object> values) {
+    javax.script.ScriptEngine scriptEngine = engines.get();
+    if(scriptEngine == null) {
+      return;
+    }
+    Bindings bindings = scriptEngine.createBindings();
+    bindings.putAll(values);
+    try {
+      if(compiledScript != null && compiledScript.getEngine() == scriptEngine) {
+        compiledScript.eval(bindings);
+      } else {
+        scriptEngine.eval(executable, bindings);
+      }
+    } catch(ScriptException e) {
+      logScriptError(executable, e);
+    }
+  }
+
+  public static void logScriptError(String executable, ScriptException e) {
+    Bukkit.getLogger().log(Level.SEVERE, "Script failed to parse expression! Expression was written wrongly!");
+    Bukkit.getLogger().log(Level.SEVERE, "Expression value: " + executable);
+    Bukkit.getLogger().log(Level.SEVERE, "Error log:");
+    e.printStackTrace();
+    Bukkit.getLogger().log(Level.SEVERE, "---- THIS IS AN ISSUE BY USER CONFIGURATION NOT AUTHOR BUG ----");
+  }
+
+}
@@ -51,6 +51,8 @@ public class ArmorStandHologram {
   private static final PluginMain plugin = JavaPlugin.getPlugin(PluginMain.class);
 
   private final List<ArmorStand> armorStands = new ArrayList<>();
+  //lines of the hologram if packet holograms are supported, armor stands are used otherwise
+  private PacketHologram packetHologram;
 
   public ArmorStandHologram() {
   }
@@ -95,6 +97,10 @@ public class ArmorStandHologram {
     return lines;
   }
 
+  /**
+   * @return armor stand entities of the lines, empty if the lines are sent as packets
+   * @see HologramManager#isPacketHolograms()
+   */
   @NotNull
   public List<ArmorStand> getArmorStands() {
     return armorStands;
@@ -138,6 +144,7 @@ public class ArmorStandHologram {
 
   public ArmorStandHologram appendItem(@NotNull ItemStack item) {
     this.item = item;
+    removeEntityItem();
     append();
     return this;
   }
@@ -148,18 +155,32 @@ public class ArmorStandHologram {
       armor.remove();
       plugin.getHologramManager().getArmorStands().remove(armor);
     }
-    if(entityItem != null) {
-      entityItem.remove();
+    removeEntityItem();
+    if(packetHologram != null) {
+      packetHologram.delete();
+      packetHologram = null;
     }
     plugin.getHologramManager().getHolograms().remove(this);
     armorStands.clear();
   }
 
+  private void removeEntityItem() {
+    if(entityItem != null) {
+      plugin.getHologramManager().unregisterPickupItem(entityItem, this);
+      entityItem.remove();
+      entityItem = null;
+    }
+  }
+
   public boolean isDeleted() {
-    return entityItem == null && armorStands.isEmpty();
+    return entityItem == null && armorStands.isEmpty() && packetHologram == null;
   }
 
   private void append() {
+    if(plugin.getHologramManager().isPacketHolograms()) {
+      appendPackets();
+      return;
+    }
     delete();
 
     World world = location.getWorld();
@@ -179,6 +200,30 @@ public class ArmorStandHologram {
       plugin.getHologramManager().getArmorStands().add(armorStand);
     }
 
+    spawnEntityItem(world);
+  }
+
+  /**
+   * Only changed lines are sent to the players, the item stays a real entity so it can be picked up
+   */
+  private void appendPackets() {
+    World world = location.getWorld();
+    if(world == null) {
+      return;
+    }
+    if(packetHologram == null) {
+      packetHologram = plugin.getHologramManager().createPacketHologram(location);
+    }
+    packetHologram.setLines(location, lines);
+    if(entityItem != null && !entityItem.isValid()) {
+      entityItem = null;
+    }
+    if(entityItem == null) {
+      spawnEntityItem(world);
+    }
+  }
+
+  private void spawnEntityItem(World world) {
     if(item != null && item.getType() != org.bukkit.Material.AIR) {
       entityItem = world.dropItem(location, item);
       if(VersionUtils.isPaper()) {
@@ -194,6 +239,9 @@ public class ArmorStandHologram {
         entityItem.setInvulnerable(true);
       }
       VersionUtils.teleport(entityItem, location);
+      if(pickupHandler != null) {
+        plugin.getHologramManager().registerPickupItem(entityItem, this);
+      }
     }
   }
 
@@ -228,9 +276,14 @@ public class ArmorStandHologram {
    * @param handler which should be executed on pickup
    */
   public ArmorStandHologram setPickupHandler(PickupHandler handler) {
-    plugin.getHologramManager().getHolograms().remove(this);
     this.pickupHandler = handler;
-    plugin.getHologramManager().getHolograms().add(this);
+    if(entityItem != null) {
+      if(handler == null) {
+        plugin.getHologramManager().unregisterPickupItem(entityItem, this);
+      } else {
+        plugin.getHologramManager().registerPickupItem(entityItem, this);
+      }
+    }
     return this;
   }
 
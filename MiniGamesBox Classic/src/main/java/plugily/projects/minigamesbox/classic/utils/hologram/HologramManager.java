@@ -19,16 +19,29 @@
 
 package plugily.projects.minigamesbox.classic.utils.hologram;
 
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.scheduler.BukkitTask;
 import plugily.projects.minigamesbox.classic.PluginMain;
+import plugily.projects.minigamesbox.classic.user.User;
 import plugily.projects.minigamesbox.classic.utils.version.events.api.PlugilyEntityPickupItemEvent;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * @author Tigerpanzer_02
@@ -37,15 +50,29 @@ import java.util.List;
  */
 public class HologramManager implements Listener {
 
+  //holograms are shown to players within this distance, 3 chunks
+  private static final int VIEW_CHUNKS = 3;
+  private static final double VIEW_DISTANCE_SQUARED = (VIEW_CHUNKS * 16) * (VIEW_CHUNKS * 16);
+  private static final long VIEWER_UPDATE_INTERVAL = 10;
+
   private final PluginMain plugin;
+  private final boolean packetHolograms;
+  //packet holograms by world and chunk key
+  private final Map<UUID, Map<Long, Set<PacketHologram>>> packetHologramChunks = new HashMap<>();
+  private final Map<UUID, Set<PacketHologram>> visiblePacketHolograms = new HashMap<>();
+  private BukkitTask viewerTask;
 
   public HologramManager(PluginMain plugin) {
     this.plugin = plugin;
+    this.packetHolograms = HologramPackets.init();
+    plugin.getDebugger().debug("[HologramManager] Using {0} holograms", packetHolograms ? "packet" : "entity");
     plugin.getServer().getPluginManager().registerEvents(this, plugin);
   }
 
   private final List<ArmorStand> armorStands = new ArrayList<>();
   private final List<ArmorStandHologram> holograms = new ArrayList<>();
+  //holograms with pickup handler by the uuid of their item entity
+  private final Map<UUID, ArmorStandHologram> pickupHolograms = new HashMap<>();
 
   public List<ArmorStand> getArmorStands() {
     return armorStands;
@@ -55,30 +82,179 @@ public class HologramManager implements Listener {
     return holograms;
   }
 
-  @EventHandler
-  public void onItemPickup(PlugilyEntityPickupItemEvent event) {
-    if(!(event.getEntity() instanceof Player)) {
+  /**
+   * @return true if hologram lines are sent as client side armor stands instead of spawning entities
+   */
+  public boolean isPacketHolograms() {
+    return packetHolograms;
+  }
+
+  PacketHologram createPacketHologram(Location location) {
+    PacketHologram hologram = new PacketHologram(plugin, location);
+    registerPacketHologram(hologram);
+    return hologram;
+  }
+
+  void registerPacketHologram(PacketHologram hologram) {
+    Location location = hologram.getLocation();
+    if(location.getWorld() == null) {
       return;
     }
-    Player player = (Player) event.getEntity();
-    if(plugin.getUserManager().getUser(player).getArena() == null) {
+    packetHologramChunks.computeIfAbsent(location.getWorld().getUID(), uuid -> new HashMap<>())
+        .computeIfAbsent(getChunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4), key -> new HashSet<>()).add(hologram);
+    if(viewerTask == null && plugin.isEnabled()) {
+      viewerTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateViewers, 1, VIEWER_UPDATE_INTERVAL);
+    }
+  }
+
+  void unregisterPacketHologram(PacketHologram hologram) {
+    Location location = hologram.getLocation();
+    if(location.getWorld() != null) {
+      Map<Long, Set<PacketHologram>> chunks = packetHologramChunks.get(location.getWorld().getUID());
+      if(chunks != null) {
+        long chunkKey = getChunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        Set<PacketHologram> holograms = chunks.get(chunkKey);
+        if(holograms != null && holograms.remove(hologram) && holograms.isEmpty()) {
+          chunks.remove(chunkKey);
+          if(chunks.isEmpty()) {
+            packetHologramChunks.remove(location.getWorld().getUID());
+          }
+        }
+      }
+    }
+    for(Set<PacketHologram> visible : visiblePacketHolograms.values()) {
+      visible.remove(hologram);
+    }
+  }
+
+  private static long getChunkKey(int chunkX, int chunkZ) {
+    return (long) chunkX & 0xFFFFFFFFL | ((long) chunkZ & 0xFFFFFFFFL) << 32;
+  }
+
+  private void updateViewers() {
+    if(packetHologramChunks.isEmpty() && visiblePacketHolograms.isEmpty()) {
+      viewerTask.cancel();
+      viewerTask = null;
       return;
     }
-    for(ArmorStandHologram hologram : holograms) {
-      if(!hologram.hasPickupHandler()) {
-        continue;
+    for(Player player : Bukkit.getOnlinePlayers()) {
+      Set<PacketHologram> visible = visiblePacketHolograms.get(player.getUniqueId());
+      Set<PacketHologram> inRange = getHologramsInRange(player.getLocation());
+      if(visible != null) {
+        for(PacketHologram hologram : visible) {
+          if(!inRange.contains(hologram)) {
+            hologram.hide(player);
+          }
+        }
       }
-      Item entityItem = hologram.getEntityItem();
-      Item item = event.getItem();
-      if(item.equals(entityItem)) {
-        if(plugin.getUserManager().getUser(player).isSpectator()) {
-          return;
+      for(PacketHologram hologram : inRange) {
+        hologram.show(player);
+      }
+      if(inRange.isEmpty()) {
+        visiblePacketHolograms.remove(player.getUniqueId());
+      } else {
+        visiblePacketHolograms.put(player.getUniqueId(), inRange);
+      }
+    }
+  }
+
+  private Set<PacketHologram> getHologramsInRange(Location location) {
+    Map<Long, Set<PacketHologram>> chunks = location.getWorld() == null ? null : packetHologramChunks.get(location.getWorld().getUID());
+    if(chunks == null) {
+      return new HashSet<>();
+    }
+    Set<PacketHologram> inRange = new HashSet<>();
+    int chunkX = location.getBlockX() >> 4;
+    int chunkZ = location.getBlockZ() >> 4;
+    for(int x = chunkX - VIEW_CHUNKS; x <= chunkX + VIEW_CHUNKS; x++) {
+      for(int z = chunkZ - VIEW_CHUNKS; z <= chunkZ + VIEW_CHUNKS; z++) {
+        Set<PacketHologram> holograms = chunks.get(getChunkKey(x, z));
+        if(holograms == null) {
+          continue;
         }
-        event.setCancelled(true);
-        hologram.getPickupHandler().onPickup(player);
-        return;
+        for(PacketHologram hologram : holograms) {
+          if(hologram.getLocation().distanceSquared(location) <= VIEW_DISTANCE_SQUARED) {
+            inRange.add(hologram);
+          }
+        }
+      }
+    }
+    return inRange;
+  }
+
+  /**
+   * Clients drop the armor stands on world changes and far teleports, they have to be sent again
+   */
+  private void forgetViewer(Player player) {
+    Set<PacketHologram> visible = visiblePacketHolograms.remove(player.getUniqueId());
+    if(visible != null) {
+      for(PacketHologram hologram : visible) {
+        hologram.forget(player.getUniqueId());
       }
     }
   }
 
+  @EventHandler
+  public void onQuit(PlayerQuitEvent event) {
+    forgetViewer(event.getPlayer());
+  }
+
+  @EventHandler
+  public void onRespawn(PlayerRespawnEvent event) {
+    forgetViewer(event.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onTeleport(PlayerTeleportEvent event) {
+    if(event.getTo() == null || event.getFrom().getWorld() != event.getTo().getWorld()
+        || event.getFrom().distanceSquared(event.getTo()) > VIEW_DISTANCE_SQUARED) {
+      forgetViewer(event.getPlayer());
+    }
+  }
+
+  /**
+   * Removes all packet holograms from the clients, used on disable
+   */
+  public void destroyPacketHolograms() {
+    for(Map<Long, Set<PacketHologram>> chunks : new ArrayList<>(packetHologramChunks.values())) {
+      for(Set<PacketHologram> holograms : new ArrayList<>(chunks.values())) {
+        for(PacketHologram hologram : new ArrayList<>(holograms)) {
+          hologram.delete();
+        }
+      }
+    }
+    packetHologramChunks.clear();
+    visiblePacketHolograms.clear();
+    if(viewerTask != null) {
+      viewerTask.cancel();
+      viewerTask = null;
+    }
+  }
+
+  void registerPickupItem(Item item, ArmorStandHologram hologram) {
+    pickupHolograms.put(item.getUniqueId(), hologram);
+  }
+
+  void unregisterPickupItem(Item item, ArmorStandHologram hologram) {
+    pickupHolograms.remove(item.getUniqueId(), hologram);
+  }
+
+  @EventHandler
+  public void onItemPickup(PlugilyEntityPickupItemEvent event) {
+    if(pickupHolograms.isEmpty() || !(event.getEntity() instanceof Player)) {
+      return;
+    }
+    ArmorStandHologram hologram = pickupHolograms.get(event.getItem().getUniqueId());
+    if(hologram == null || !hologram.hasPickupHandler()) {
+      return;
+    }
+    Player player = (Player) event.getEntity();
+    User user = plugin.getUserManager().getUser(player);
+    if(user.getArena() == null || user.isSpectator()) {
+      return;
+    }
+    event.setCancelled(true);
+    hologram.getPickupHandler().onPickup(player);
+  }
+
 }
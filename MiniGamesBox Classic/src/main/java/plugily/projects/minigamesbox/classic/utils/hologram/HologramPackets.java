@@ -0,0 +1,155 @@
+/*
+ * TheBridge - Defend your base and try to wipe out the others
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02, 2Wild4You and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.classic.utils.hologram;
+
+import org.bukkit.World;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Player;
+import plugily.projects.minigamesbox.classic.utils.version.PacketUtils;
+import plugily.projects.minigamesbox.classic.utils.version.ServerVersion;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Collection;
+
+/**
+ * Reflection access to the packets needed for client side only armor stands.
+ * Resolved once, if anything can't be found holograms use real entities.
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+final class HologramPackets {
+
+  private static Method worldHandleMethod, bukkitEntityMethod, dataWatcherMethod;
+  private static Constructor<?> armorStandConstructor, spawnPacketConstructor, metadataPacketConstructor, destroyPacketConstructor;
+  private static boolean destroyArray;
+
+  private HologramPackets() {
+  }
+
+  /**
+   * @return true if packet holograms are supported on this server version
+   */
+  static boolean init() {
+    try {
+      Class<?> craftWorld = Class.forName("org.bukkit.craftbukkit." + ServerVersion.Version.getPackageVersion()[3] + ".CraftWorld");
+      Class<?> nmsWorld = PacketUtils.classByName("net.minecraft.world.level", "World");
+      Class<?> nmsEntity = PacketUtils.classByName("net.minecraft.world.entity", "Entity");
+      Class<?> armorStand = PacketUtils.classByName("net.minecraft.world.entity.decoration", "EntityArmorStand");
+      Class<?> dataWatcher = PacketUtils.classByName("net.minecraft.network.syncher", "DataWatcher");
+      if(nmsWorld == null || nmsEntity == null || armorStand == null || dataWatcher == null) {
+        return false;
+      }
+      worldHandleMethod = craftWorld.getMethod("getHandle");
+      armorStandConstructor = armorStand.getConstructor(nmsWorld, double.class, double.class, double.class);
+      bukkitEntityMethod = nmsEntity.getMethod("getBukkitEntity");
+      //method names are obfuscated on newer versions, the data watcher getter is the only one returning it
+      for(Method method : nmsEntity.getMethods()) {
+        if(method.getParameterCount() == 0 && method.getReturnType() == dataWatcher) {
+          dataWatcherMethod = method;
+          break;
+        }
+      }
+
+      Class<?> spawnPacket = PacketUtils.classByName("net.minecraft.network.protocol.game", "PacketPlayOutSpawnEntityLiving");
+      if(spawnPacket == null) {
+        spawnPacket = PacketUtils.classByName("net.minecraft.network.protocol.game", "PacketPlayOutSpawnEntity");
+      }
+      spawnPacketConstructor = getEntityConstructor(spawnPacket, armorStand);
+
+      Class<?> metadataPacket = PacketUtils.classByName("net.minecraft.network.protocol.game", "PacketPlayOutEntityMetadata");
+      //newer versions only accept packed data values which is not supported
+      metadataPacketConstructor = metadataPacket == null ? null : metadataPacket.getConstructor(int.class, dataWatcher, boolean.class);
+
+      Class<?> destroyPacket = PacketUtils.classByName("net.minecraft.network.protocol.game", "PacketPlayOutEntityDestroy");
+      if(destroyPacket != null) {
+        try {
+          destroyPacketConstructor = destroyPacket.getConstructor(int[].class);
+          destroyArray = true;
+        } catch(NoSuchMethodException e) {
+          destroyPacketConstructor = destroyPacket.getConstructor(int.class);
+        }
+      }
+    } catch(ReflectiveOperationException | RuntimeException e) {
+      return false;
+    }
+    return dataWatcherMethod != null && spawnPacketConstructor != null && metadataPacketConstructor != null && destroyPacketConstructor != null;
+  }
+
+  private static Constructor<?> getEntityConstructor(Class<?> packet, Class<?> entity) {
+    if(packet == null) {
+      return null;
+    }
+    for(Constructor<?> constructor : packet.getConstructors()) {
+      if(constructor.getParameterCount() == 1 && constructor.getParameterTypes()[0].isAssignableFrom(entity)) {
+        return constructor;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Creates an armor stand that is never added to the world
+   *
+   * @return the nms entity handle
+   */
+  static Object createArmorStand(World world, double x, double y, double z) throws ReflectiveOperationException {
+    return armorStandConstructor.newInstance(worldHandleMethod.invoke(world), x, y, z);
+  }
+
+  /**
+   * @return bukkit wrapper of the handle, changes on it are written into the entity metadata
+   */
+  static ArmorStand getBukkitEntity(Object handle) throws ReflectiveOperationException {
+    return (ArmorStand) bukkitEntityMethod.invoke(handle);
+  }
+
+  //packets are created once and sent to all players
+  static void sendSpawn(Collection<? extends Player> players, Object handle, int entityId) throws ReflectiveOperationException {
+    if(players.isEmpty()) {
+      return;
+    }
+    PacketUtils.sendPacket(players, spawnPacketConstructor.newInstance(handle));
+    sendMetadata(players, handle, entityId);
+  }
+
+  static void sendMetadata(Collection<? extends Player> players, Object handle, int entityId) throws ReflectiveOperationException {
+    if(players.isEmpty()) {
+      return;
+    }
+    PacketUtils.sendPacket(players, metadataPacketConstructor.newInstance(entityId, dataWatcherMethod.invoke(handle), true));
+  }
+
+  static void sendDestroy(Collection<? extends Player> players, int... entityIds) throws ReflectiveOperationException {
+    if(players.isEmpty() || entityIds.length == 0) {
+      return;
+    }
+    if(destroyArray) {
+      PacketUtils.sendPacket(players, destroyPacketConstructor.newInstance((Object) entityIds));
+      return;
+    }
+    for(int entityId : entityIds) {
+      PacketUtils.sendPacket(players, destroyPacketConstructor.newInstance(entityId));
+    }
+  }
+
+}
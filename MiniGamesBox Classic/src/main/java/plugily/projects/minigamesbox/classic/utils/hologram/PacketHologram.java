@@ -0,0 +1,205 @@
+/*
+ * TheBridge - Defend your base and try to wipe out the others
+ * Copyright (C)  2021  Plugily Projects - maintained by Tigerpanzer_02, 2Wild4You and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package plugily.projects.minigamesbox.classic.utils.hologram;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import plugily.projects.minigamesbox.classic.PluginMain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Hologram lines made of armor stands that only exist on the clients
+ * of the players near them. Line changes are sent as metadata updates.
+ *
+ * @author Tigerpanzer_02
+ * <p>
+ * Created at 18.10.2026
+ */
+final class PacketHologram {
+
+  private static final double LINE_DISTANCE = -0.27;
+
+  private final PluginMain plugin;
+  private final List<Line> lines = new ArrayList<>();
+  private final Set<UUID> viewers = new HashSet<>();
+  private Location location;
+
+  PacketHologram(PluginMain plugin, @NotNull Location location) {
+    this.plugin = plugin;
+    this.location = location.clone();
+  }
+
+  public Location getLocation() {
+    return location;
+  }
+
+  /**
+   * Updates the lines, only changed lines are sent to the viewers
+   *
+   * @param location location of the hologram
+   * @param texts    new lines
+   */
+  void setLines(@NotNull Location location, @NotNull List<String> texts) {
+    if(!location.equals(this.location)) {
+      //moving the armor stands is not supported, create them again at the new location
+      destroyLines(0);
+      plugin.getHologramManager().unregisterPacketHologram(this);
+      this.location = location.clone();
+      plugin.getHologramManager().registerPacketHologram(this);
+    }
+    World world = location.getWorld();
+    if(world == null) {
+      return;
+    }
+    List<Player> onlineViewers = getViewers();
+    try {
+      int size = Math.min(lines.size(), texts.size());
+      for(int i = 0; i < size; i++) {
+        Line line = lines.get(i);
+        String text = texts.get(i);
+        if(text.equals(line.text)) {
+          continue;
+        }
+        line.setText(text);
+        HologramPackets.sendMetadata(onlineViewers, line.handle, line.entityId);
+      }
+      destroyLines(texts.size());
+      double y = location.getY() + LINE_DISTANCE * lines.size();
+      for(int i = lines.size(); i < texts.size(); i++) {
+        y += LINE_DISTANCE;
+        Line line = new Line(HologramPackets.createArmorStand(world, location.getX(), y, location.getZ()));
+        line.setText(texts.get(i));
+        lines.add(line);
+        HologramPackets.sendSpawn(onlineViewers, line.handle, line.entityId);
+      }
+    } catch(ReflectiveOperationException e) {
+      plugin.getDebugger().debug(Level.WARNING, "Failed to update packet hologram: {0}", e.getMessage());
+    }
+  }
+
+  private void destroyLines(int from) {
+    if(from >= lines.size()) {
+      return;
+    }
+    int[] entityIds = new int[lines.size() - from];
+    for(int i = lines.size() - 1; i >= from; i--) {
+      entityIds[i - from] = lines.remove(i).entityId;
+    }
+    sendDestroy(getViewers(), entityIds);
+  }
+
+  boolean isViewer(Player player) {
+    return viewers.contains(player.getUniqueId());
+  }
+
+  void show(Player player) {
+    if(!viewers.add(player.getUniqueId())) {
+      return;
+    }
+    try {
+      for(Line line : lines) {
+        HologramPackets.sendSpawn(Collections.singletonList(player), line.handle, line.entityId);
+      }
+    } catch(ReflectiveOperationException e) {
+      plugin.getDebugger().debug(Level.WARNING, "Failed to show packet hologram: {0}", e.getMessage());
+    }
+  }
+
+  void hide(Player player) {
+    if(viewers.remove(player.getUniqueId())) {
+      sendDestroy(Collections.singletonList(player), getEntityIds());
+    }
+  }
+
+  /**
+   * Removes the viewer without sending packets, used if the client already dropped the entities
+   */
+  void forget(UUID uuid) {
+    viewers.remove(uuid);
+  }
+
+  void delete() {
+    sendDestroy(getViewers(), getEntityIds());
+    viewers.clear();
+    lines.clear();
+    plugin.getHologramManager().unregisterPacketHologram(this);
+  }
+
+  private int[] getEntityIds() {
+    int[] entityIds = new int[lines.size()];
+    for(int i = 0; i < entityIds.length; i++) {
+      entityIds[i] = lines.get(i).entityId;
+    }
+    return entityIds;
+  }
+
+  private List<Player> getViewers() {
+    List<Player> players = new ArrayList<>(viewers.size());
+    for(UUID uuid : viewers) {
+      Player player = Bukkit.getPlayer(uuid);
+      if(player != null) {
+        players.add(player);
+      }
+    }
+    return players;
+  }
+
+  private void sendDestroy(List<Player> players, int[] entityIds) {
+    try {
+      HologramPackets.sendDestroy(players, entityIds);
+    } catch(ReflectiveOperationException e) {
+      plugin.getDebugger().debug(Level.WARNING, "Failed to remove packet hologram: {0}", e.getMessage());
+    }
+  }
+
+  private static final class Line {
+
+    private final Object handle;
+    private final ArmorStand armorStand;
+    private final int entityId;
+    private String text;
+
+    private Line(Object handle) throws ReflectiveOperationException {
+      this.handle = handle;
+      this.armorStand = HologramPackets.getBukkitEntity(handle);
+      this.entityId = armorStand.getEntityId();
+      armorStand.setVisible(false);
+      armorStand.setGravity(false);
+      armorStand.setCustomNameVisible(true);
+    }
+
+    private void setText(String text) {
+      this.text = text;
+      armorStand.setCustomName(text);
+    }
+  }
+
+}
@@ -19,6 +19,9 @@
 
 package plugily.projects.minigamesbox.classic.utils.version;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
@@ -31,30 +34,55 @@ import org.bukkit.entity.Player;
  */
 public class PacketUtils {
 
-  private static Method playerHandleMethod, sendPacketMethod;
-  private static Field playerConnectionField;
+  //resolved once on the first packet, the handles are typed to Object so invokeExact works without casts
+  private static volatile MethodHandle playerHandleMethod, playerConnectionGetter, sendPacketMethod;
 
   public static void sendPacket(Player player, Object packet) {
     try {
-      if (playerHandleMethod == null)
-        playerHandleMethod = player.getClass().getDeclaredMethod("getHandle");
+      if(sendPacketMethod == null) {
+        resolveHandles(player);
+      }
+      Object handle = (Object) playerHandleMethod.invokeExact((Object) player);
+      Object playerConnection = (Object) playerConnectionGetter.invokeExact(handle);
+      sendPacketMethod.invokeExact(playerConnection, packet);
+    } catch(Throwable ex) {
+      ex.printStackTrace();
+    }
+  }
 
-      Object handle = playerHandleMethod.invoke(player);
+  /**
+   * Sends the same packet to all players, the packet is only created once by the caller
+   *
+   * @param players players to send the packet to
+   * @param packet  packet to send
+   */
+  public static void sendPacket(Iterable<? extends Player> players, Object packet) {
+    for(Player player : players) {
+      sendPacket(player, packet);
+    }
+  }
 
-      if (playerConnectionField == null)
-        playerConnectionField = handle.getClass().getField(
-              (ServerVersion.Version.isCurrentEqualOrHigher(ServerVersion.Version.v1_17_R1) ? "b" : "playerConnection"));
+  private static synchronized void resolveHandles(Player player) throws ReflectiveOperationException {
+    if(sendPacketMethod != null) {
+      return;
+    }
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    Method getHandle = player.getClass().getDeclaredMethod("getHandle");
+    getHandle.setAccessible(true);
+    MethodHandle handleMethod = lookup.unreflect(getHandle).asType(MethodType.methodType(Object.class, Object.class));
 
-      Object playerConnection = playerConnectionField.get(handle);
+    Object handle = getHandle.invoke(player);
+    Field connectionField = handle.getClass().getField(
+        (ServerVersion.Version.isCurrentEqualOrHigher(ServerVersion.Version.v1_17_R1) ? "b" : "playerConnection"));
+    MethodHandle connectionGetter = lookup.unreflectGetter(connectionField).asType(MethodType.methodType(Object.class, Object.class));
 
-      if (sendPacketMethod == null)
-        sendPacketMethod = playerConnection.getClass().getMethod((ServerVersion.Version.isCurrentEqualOrHigher(ServerVersion.Version.v1_18_R1) ? "a" : "sendPacket"),
-            classByName("net.minecraft.network.protocol", "Packet"));
+    Method sendPacket = connectionField.getType().getMethod((ServerVersion.Version.isCurrentEqualOrHigher(ServerVersion.Version.v1_18_R1) ? "a" : "sendPacket"),
+        classByName("net.minecraft.network.protocol", "Packet"));
+    MethodHandle packetMethod = lookup.unreflect(sendPacket).asType(MethodType.methodType(void.class, Object.class, Object.class));
 
-      sendPacketMethod.invoke(playerConnection, packet);
-    } catch(ReflectiveOperationException ex) {
-      ex.printStackTrace();
-    }
+    playerHandleMethod = handleMethod;
+    playerConnectionGetter = connectionGetter;
+    sendPacketMethod = packetMethod;
   }
 
   public static Class<?> classByName(String newPackageName, String className) {
@@ -69,4 +97,23 @@ public class PacketUtils {
     }
   }
 
+  /**
+   * Resolves a public constructor into a method handle, returns null if it does not exist
+   *
+   * @param type           class to get the constructor of
+   * @param parameterTypes parameter types of the constructor
+   * @return handle returning Object for the constructor
+   */
+  public static MethodHandle constructorHandle(Class<?> type, Class<?>... parameterTypes) {
+    if(type == null) {
+      return null;
+    }
+    try {
+      return MethodHandles.publicLookup().unreflectConstructor(type.getConstructor(parameterTypes))
+          .asType(MethodType.methodType(Object.class, parameterTypes));
+    } catch(ReflectiveOperationException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
 }
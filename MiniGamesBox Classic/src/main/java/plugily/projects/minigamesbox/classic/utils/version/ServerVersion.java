@@ -20,6 +20,7 @@
 package plugily.projects.minigamesbox.classic.utils.version;
 
 import org.bukkit.Bukkit;
+import org.jetbrains.annotations.TestOnly;
 
 public class ServerVersion {
 
@@ -95,6 +96,18 @@ public class ServerVersion {
       return current;
     }
 
+    /**
+     * Sets the version without looking at the server implementation,
+     * the package version is set to the craftbukkit package of the version
+     *
+     * @param version version to use
+     */
+    @TestOnly
+    static void setCurrent(Version version) {
+      packageVersion = new String[]{"org", "bukkit", "craftbukkit", version.name()};
+      current = version;
+    }
+
     public boolean isLower(Version version) {
       return value < version.getValue();
     }
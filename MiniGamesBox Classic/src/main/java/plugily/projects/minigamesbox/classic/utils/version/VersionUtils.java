@@ -58,7 +58,10 @@ import plugily.projects.minigamesbox.classic.PluginMain;
 import plugily.projects.minigamesbox.classic.utils.misc.MiscUtils;
 import plugily.projects.minigamesbox.classic.utils.version.xseries.XParticleLegacy;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -72,7 +75,8 @@ public final class VersionUtils {
 
   private static boolean isPaper, isParticleBuilderSupported;
   private static Class<?> iChatBaseComponent, chatMessageTypeClass;
-  private static Constructor<?> packetPlayOutChatConstructor, chatComponentTextConstructor, titleConstructor;
+  private static MethodHandle packetPlayOutChatConstructor, chatComponentTextConstructor, titleConstructor, chatSerializerMethod;
+  private static boolean chatPacketWithUUID;
   private static Object chatMessageType, titleField, subTitleField;
   public static final List<String> PARTICLE_VALUES;
 
@@ -109,37 +113,37 @@ public final class VersionUtils {
         }
       }
       try {
-        Class<?> chatcomponentTextClass = PacketUtils.classByName("net.minecraft.network.chat", "ChatComponentText");
-
-        if(chatcomponentTextClass != null) {
-          chatComponentTextConstructor = chatcomponentTextClass.getConstructor(String.class);
-        }
+        chatComponentTextConstructor = PacketUtils.constructorHandle(PacketUtils.classByName("net.minecraft.network.chat", "ChatComponentText"), String.class);
 
         Class<?> packetPlayOutChatClass = PacketUtils.classByName("net.minecraft.network.protocol.game", "PacketPlayOutChat");
 
-        if(packetPlayOutChatClass != null) {
-          if(chatMessageTypeClass == null) {
-            packetPlayOutChatConstructor = packetPlayOutChatClass.getConstructor(iChatBaseComponent, byte.class);
-          } else if(chatMessageType != null) {
-            try {
-              packetPlayOutChatConstructor = packetPlayOutChatClass.getConstructor(iChatBaseComponent,
-                  chatMessageTypeClass);
-            } catch(NoSuchMethodException e) {
-              packetPlayOutChatConstructor = packetPlayOutChatClass.getConstructor(iChatBaseComponent,
-                  chatMessageTypeClass, UUID.class);
-            }
+        if(chatMessageTypeClass == null) {
+          packetPlayOutChatConstructor = PacketUtils.constructorHandle(packetPlayOutChatClass, iChatBaseComponent, byte.class);
+        } else if(chatMessageType != null) {
+          packetPlayOutChatConstructor = PacketUtils.constructorHandle(packetPlayOutChatClass, iChatBaseComponent, chatMessageTypeClass);
+          if(packetPlayOutChatConstructor == null) {
+            packetPlayOutChatConstructor = PacketUtils.constructorHandle(packetPlayOutChatClass, iChatBaseComponent, chatMessageTypeClass, UUID.class);
+            chatPacketWithUUID = true;
           }
         }
 
-
         Class<?> playOutTitle = PacketUtils.classByName("net.minecraft.network.protocol.game", "PacketPlayOutTitle");
-        Class<?>[] titleDeclaredClasses = playOutTitle.getDeclaredClasses();
+        Class<?>[] titleDeclaredClasses = playOutTitle == null ? new Class<?>[0] : playOutTitle.getDeclaredClasses();
 
-        if(titleDeclaredClasses.length > 0) {
-          titleConstructor = playOutTitle.getConstructor(titleDeclaredClasses[0], iChatBaseComponent, int.class, int.class, int.class);
+        if(titleDeclaredClasses.length > 0 && iChatBaseComponent != null) {
+          titleConstructor = PacketUtils.constructorHandle(playOutTitle, titleDeclaredClasses[0], iChatBaseComponent, int.class, int.class, int.class);
           titleField = titleDeclaredClasses[0].getField("TITLE").get(null);
           subTitleField = titleDeclaredClasses[0].getField("SUBTITLE").get(null);
         }
+
+        //json serializer is a nested class of IChatBaseComponent, on 1.8 it is a top level class
+        Class<?>[] chatDeclaredClasses = iChatBaseComponent == null ? new Class<?>[0] : iChatBaseComponent.getDeclaredClasses();
+        Class<?> chatSerializer = chatDeclaredClasses.length > 0 ? chatDeclaredClasses[0]
+            : ServerVersion.Version.isCurrentLower(ServerVersion.Version.v1_8_R2) ? PacketUtils.classByName(null, "ChatSerializer") : null;
+        if(chatSerializer != null) {
+          chatSerializerMethod = MethodHandles.publicLookup().unreflect(chatSerializer.getMethod("a", String.class))
+              .asType(MethodType.methodType(Object.class, String.class));
+        }
       } catch(NoSuchMethodException | NoClassDefFoundError | NoSuchFieldException | IllegalAccessException ignored) {
       }
     }
@@ -525,18 +529,9 @@ public final class VersionUtils {
     if(player == null)
       return;
     if(ServerVersion.Version.isCurrentEqualOrLower(ServerVersion.Version.v1_10_R1)) {
-      try {
-        if(chatMessageTypeClass == null) {
-          PacketUtils.sendPacket(player, packetPlayOutChatConstructor.newInstance(chatComponentTextConstructor.newInstance(message), (byte) 2));
-        } else if(chatMessageType != null) {
-          if(packetPlayOutChatConstructor.getParameterCount() == 2) {
-            PacketUtils.sendPacket(player, packetPlayOutChatConstructor.newInstance(chatComponentTextConstructor.newInstance(message), chatMessageType));
-          } else {
-            PacketUtils.sendPacket(player, packetPlayOutChatConstructor.newInstance(chatComponentTextConstructor.newInstance(message), chatMessageType, player.getUniqueId()));
-          }
-        }
-      } catch(ReflectiveOperationException e) {
-        e.printStackTrace();
+      Object packet = createLegacyActionBarPacket(message, player.getUniqueId());
+      if(packet != null) {
+        PacketUtils.sendPacket(player, packet);
       }
     } else if(ServerVersion.Version.isCurrentEqualOrHigher(ServerVersion.Version.v1_16_R3)) {
       player.spigot().sendMessage(ChatMessageType.ACTION_BAR, player.getUniqueId(), new ComponentBuilder(message).create());
@@ -545,6 +540,58 @@ public final class VersionUtils {
     }
   }
 
+  /**
+   * Sends the action bar to all players, the message is only converted once
+   *
+   * @param players players to send the action bar to
+   * @param message message of the action bar
+   */
+  @Deprecated //for outside use, recommend to use ActionBarManager!
+  public static void sendActionBar(Collection<? extends Player> players, String message) {
+    if(players.isEmpty())
+      return;
+    if(ServerVersion.Version.isCurrentEqualOrLower(ServerVersion.Version.v1_10_R1)) {
+      if(chatPacketWithUUID) {
+        for(Player player : players) {
+          sendActionBar(player, message);
+        }
+        return;
+      }
+      Object packet = createLegacyActionBarPacket(message, null);
+      if(packet != null) {
+        PacketUtils.sendPacket(players, packet);
+      }
+      return;
+    }
+    net.md_5.bungee.api.chat.BaseComponent[] components = new ComponentBuilder(message).create();
+    for(Player player : players) {
+      if(ServerVersion.Version.isCurrentEqualOrHigher(ServerVersion.Version.v1_16_R3)) {
+        player.spigot().sendMessage(ChatMessageType.ACTION_BAR, player.getUniqueId(), components);
+      } else {
+        player.spigot().sendMessage(ChatMessageType.ACTION_BAR, components);
+      }
+    }
+  }
+
+  private static Object createLegacyActionBarPacket(String message, UUID uuid) {
+    if(packetPlayOutChatConstructor == null || chatComponentTextConstructor == null) {
+      return null;
+    }
+    try {
+      Object component = (Object) chatComponentTextConstructor.invokeExact(message);
+      if(chatMessageTypeClass == null) {
+        return (Object) packetPlayOutChatConstructor.invoke(component, (byte) 2);
+      }
+      if(chatPacketWithUUID) {
+        return (Object) packetPlayOutChatConstructor.invoke(component, chatMessageType, uuid);
+      }
+      return (Object) packetPlayOutChatConstructor.invoke(component, chatMessageType);
+    } catch(Throwable e) {
+      e.printStackTrace();
+      return null;
+    }
+  }
+
   public static void sendTitles(Player player, String title, String subtitle, int fadeInTime, int showTime,
                                 int fadeOutTime) {
     if(player == null)
@@ -564,22 +611,31 @@ public final class VersionUtils {
     sendSubTitle(player, subtitle, fadeInTime, showTime, fadeOutTime);
   }
 
+  /**
+   * Sends the titles to all players, on legacy versions the packets are only created once
+   */
+  public static void sendTitles(Collection<? extends Player> players, String title, String subtitle, int fadeInTime, int showTime,
+                                int fadeOutTime) {
+    if(players.isEmpty() || (title == null && subtitle == null)) {
+      return;
+    }
+    if(title == null) {
+      title = "";
+    }
+    if(subtitle == null) {
+      subtitle = "";
+    }
+    sendTitle(players, title, fadeInTime, showTime, fadeOutTime);
+    sendSubTitle(players, subtitle, fadeInTime, showTime, fadeOutTime);
+  }
+
   public static void sendTitle(Player player, String text, int fadeInTime, int showTime, int fadeOutTime) {
     if(player == null)
       return;
     if(ServerVersion.Version.isCurrentEqualOrLower(ServerVersion.Version.v1_10_R2)) {
-      try {
-        Object chatTitle = null;
-        Class<?>[] declaredClasses = iChatBaseComponent.getDeclaredClasses();
-        if(declaredClasses.length > 0) {
-          chatTitle = declaredClasses[0].getMethod("a", String.class).invoke(null, "{\"text\": \"" + text + "\"}");
-        } else if(ServerVersion.Version.isCurrentLower(ServerVersion.Version.v1_8_R2)) {
-          Class<?> chatSerializer = PacketUtils.classByName(null, "ChatSerializer");
-          chatTitle = iChatBaseComponent.cast(chatSerializer.getMethod("a", String.class).invoke(chatSerializer, "{\"text\":\"" + text + "\"}"));
-        }
-
-        PacketUtils.sendPacket(player, titleConstructor.newInstance(titleField, chatTitle, fadeInTime, showTime, fadeOutTime));
-      } catch(Exception ignored) {
+      Object packet = createLegacyTitlePacket(titleField, text, fadeInTime, showTime, fadeOutTime);
+      if(packet != null) {
+        PacketUtils.sendPacket(player, packet);
       }
     } else {
       player.sendTitle(text, null, fadeInTime, showTime, fadeOutTime);
@@ -590,24 +646,79 @@ public final class VersionUtils {
     if(player == null)
       return;
     if(ServerVersion.Version.isCurrentEqualOrLower(ServerVersion.Version.v1_10_R2)) {
-      try {
-        Object chatTitle = null;
-        Class<?>[] declaredClasses = iChatBaseComponent.getDeclaredClasses();
-        if(declaredClasses.length > 0) {
-          chatTitle = declaredClasses[0].getMethod("a", String.class).invoke(null, "{\"text\": \"" + text + "\"}");
-        } else if(ServerVersion.Version.isCurrentLower(ServerVersion.Version.v1_8_R2)) {
-          Class<?> chatSerializer = PacketUtils.classByName(null, "ChatSerializer");
-          chatTitle = iChatBaseComponent.cast(chatSerializer.getMethod("a", String.class).invoke(chatSerializer, "{\"text\":\"" + text + "\"}"));
-        }
-
-        PacketUtils.sendPacket(player, titleConstructor.newInstance(subTitleField, chatTitle, fadeInTime, showTime, fadeOutTime));
-      } catch(Exception ignored) {
+      Object packet = createLegacyTitlePacket(subTitleField, text, fadeInTime, showTime, fadeOutTime);
+      if(packet != null) {
+        PacketUtils.sendPacket(player, packet);
       }
     } else {
       player.sendTitle(null, text, fadeInTime, showTime, fadeOutTime);
     }
   }
 
+  /**
+   * Sends the title to all players, on legacy versions the packet is only created once
+   */
+  public static void sendTitle(Collection<? extends Player> players, String text, int fadeInTime, int showTime, int fadeOutTime) {
+    sendTitlePart(players, titleField, text, null, fadeInTime, showTime, fadeOutTime);
+  }
+
+  /**
+   * Sends the subtitle to all players, on legacy versions the packet is only created once
+   */
+  public static void sendSubTitle(Collection<? extends Player> players, String text, int fadeInTime, int showTime, int fadeOutTime) {
+    sendTitlePart(players, subTitleField, null, text, fadeInTime, showTime, fadeOutTime);
+  }
+
+  private static void sendTitlePart(Collection<? extends Player> players, Object action, String title, String subtitle, int fadeInTime, int showTime, int fadeOutTime) {
+    if(players.isEmpty()) {
+      return;
+    }
+    if(ServerVersion.Version.isCurrentEqualOrLower(ServerVersion.Version.v1_10_R2)) {
+      Object packet = createLegacyTitlePacket(action, title == null ? subtitle : title, fadeInTime, showTime, fadeOutTime);
+      if(packet != null) {
+        PacketUtils.sendPacket(players, packet);
+      }
+      return;
+    }
+    for(Player player : players) {
+      player.sendTitle(title, subtitle, fadeInTime, showTime, fadeOutTime);
+    }
+  }
+
+  private static Object createLegacyTitlePacket(Object action, String text, int fadeInTime, int showTime, int fadeOutTime) {
+    if(titleConstructor == null || chatSerializerMethod == null) {
+      return null;
+    }
+    try {
+      Object chatTitle = (Object) chatSerializerMethod.invokeExact(toJsonText(text));
+      return (Object) titleConstructor.invoke(action, chatTitle, fadeInTime, showTime, fadeOutTime);
+    } catch(Throwable ignored) {
+      return null;
+    }
+  }
+
+  private static String toJsonText(String text) {
+    StringBuilder builder = new StringBuilder(text.length() + 12).append("{\"text\":\"");
+    for(int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch(c) {
+        case '"':
+          builder.append("\\\"");
+          break;
+        case '\\':
+          builder.append("\\\\");
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        default:
+          builder.append(c);
+          break;
+      }
+    }
+    return builder.append("\"}").toString();
+  }
+
   public static ItemStack getPotion(PotionType type, int tier, boolean splash) {
     ItemStack potion;
     if(ServerVersion.Version.isCurrentEqualOrLower(ServerVersion.Version.v1_8_R3)) {
@@ -3,16 +3,20 @@ package plugily.projects.minigamesbox.inventory.common;
 import fr.mrmicky.fastinv.FastInv;
 import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemStack;
 import plugily.projects.minigamesbox.inventory.common.item.ClickableItem;
 import plugily.projects.minigamesbox.inventory.common.item.ItemMap;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 
 /**
- * A refreshable inventory
+ * A refreshable inventory.
+ * The last rendered slots are kept, so a refresh only writes the slots that changed.
  *
  * @author HSGamer
  */
@@ -22,6 +26,12 @@ public abstract class RefreshableFastInv extends FastInv {
   protected boolean isForceRefresh = false;
   protected ClickableItem borderItem = null;
   protected ClickableItem cornerItem = null;
+  private boolean[] borderSlotMask;
+  private boolean[] cornerSlotMask;
+  private ClickableItem[] renderedItems;
+  private ItemStack[] renderedStacks;
+  private boolean[] renderedSlots;
+  private Consumer<InventoryClickEvent>[] slotHandlers;
 
   public RefreshableFastInv(int size) {
     super(normalizeToChestSize(size));
@@ -50,12 +60,32 @@ public abstract class RefreshableFastInv extends FastInv {
     return size;
   }
 
+  @SuppressWarnings("unchecked")
   private void initSlots() {
+    int inventorySize = getInventory().getSize();
+    borderSlotMask = new boolean[inventorySize];
+    cornerSlotMask = new boolean[inventorySize];
     for(int slot : getBorders()) {
       borderSlots.add(slot);
+      borderSlotMask[slot] = true;
     }
     for(int slot : getCorners()) {
       cornerSlots.add(slot);
+      cornerSlotMask[slot] = true;
+    }
+    renderedItems = new ClickableItem[inventorySize];
+    renderedStacks = new ItemStack[inventorySize];
+    renderedSlots = new boolean[inventorySize];
+    slotHandlers = new Consumer[inventorySize];
+    for(int i = 0; i < inventorySize; i++) {
+      int slot = i;
+      // the handler stays the same, so an item with only a new click consumer does not have to be set again
+      slotHandlers[i] = event -> {
+        ClickableItem clickableItem = renderedItems[slot];
+        if(clickableItem != null) {
+          clickableItem.getClickConsumer().accept(event);
+        }
+      };
     }
   }
 
@@ -66,31 +96,42 @@ public abstract class RefreshableFastInv extends FastInv {
    */
   protected abstract ItemMap getItemMap();
 
+  /**
+   * Get the item to display on the slot, before corner, border and default items are applied
+   *
+   * @param itemMap the item map
+   * @param slot    the slot
+   * @return the item, or null if the slot is not set
+   */
+  protected ClickableItem getSlotItem(ItemMap itemMap, int slot) {
+    return itemMap.getItem(slot);
+  }
+
   /**
    * Refresh the inventory.
    * Should be called when initializing and after changing the item slot map.
    */
   public void refresh() {
     ItemMap itemMap = getItemMap();
-    Map<Integer, ClickableItem> clickableItemSlotMap = itemMap.getItems();
     ClickableItem defaultItem = itemMap.getDefaultItem();
-    int inventorySize = getInventory().getSize();
+    int inventorySize = renderedItems.length;
+    boolean changed = false;
     for(int i = 0; i < inventorySize; i++) {
-      ClickableItem clickableItem = clickableItemSlotMap.get(i);
-      if(clickableItem != null) {
-        setItem(i, clickableItem.getItem(), clickableItem.getClickConsumer());
-      } else if(cornerItem != null && cornerSlots.contains(i)) {
-        setItem(i, cornerItem.getItem(), cornerItem.getClickConsumer());
-      } else if(borderItem != null && borderSlots.contains(i)) {
-        setItem(i, borderItem.getItem(), borderItem.getClickConsumer());
-      } else if(defaultItem != null) {
-        setItem(i, defaultItem.getItem(), defaultItem.getClickConsumer());
-      } else {
-        removeItem(i);
+      ClickableItem clickableItem = getSlotItem(itemMap, i);
+      if(clickableItem == null) {
+        if(cornerItem != null && cornerSlotMask[i]) {
+          clickableItem = cornerItem;
+        } else if(borderItem != null && borderSlotMask[i]) {
+          clickableItem = borderItem;
+        } else {
+          clickableItem = defaultItem;
+        }
       }
+      renderedItems[i] = clickableItem;
+      changed |= renderSlot(i, clickableItem == null ? null : clickableItem.getItem());
     }
 
-    if(isForceRefresh) {
+    if(isForceRefresh && changed) {
       getInventory().getViewers().forEach(viewer -> {
         if(viewer instanceof Player) {
           Player player = (Player) viewer;
@@ -100,6 +141,46 @@ public abstract class RefreshableFastInv extends FastInv {
     }
   }
 
+  private boolean renderSlot(int slot, ItemStack stack) {
+    boolean known = renderedSlots[slot];
+    renderedSlots[slot] = true;
+    if(stack == null) {
+      if(known && renderedStacks[slot] == null) {
+        return false;
+      }
+      super.removeItem(slot);
+      renderedStacks[slot] = null;
+      return true;
+    }
+    if(known && stack.equals(renderedStacks[slot])) {
+      return false;
+    }
+    // the fast inv methods are used, so subclasses that mirror items into their item map are not called
+    super.setItem(slot, stack, slotHandlers[slot]);
+    // the item could be changed in place, so a copy is compared on the next refresh
+    renderedStacks[slot] = stack.clone();
+    return true;
+  }
+
+  /**
+   * Forget the last rendered slots, so the next refresh writes every slot.
+   * Should be called after changing the inventory contents without the item map.
+   */
+  public void invalidate() {
+    Arrays.fill(renderedSlots, false);
+  }
+
+  /**
+   * Forget the last rendered item of the slot, so the next refresh writes it
+   *
+   * @param slot the slot
+   */
+  public void invalidate(int slot) {
+    if(slot >= 0 && slot < renderedSlots.length) {
+      renderedSlots[slot] = false;
+    }
+  }
+
   @Override
   public void open(Player player) {
     refresh();
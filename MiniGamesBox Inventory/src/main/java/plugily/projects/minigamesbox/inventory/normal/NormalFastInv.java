@@ -81,6 +81,7 @@ public class NormalFastInv extends RefreshableFastInv {
    */
   private void setItemToMap(int slot, ClickableItem item) {
     itemMap.setItem(slot, item);
+    invalidate(slot);
   }
 
   /**
@@ -90,6 +91,8 @@ public class NormalFastInv extends RefreshableFastInv {
    */
   private void addItemToMap(ClickableItem item) {
     itemMap.addItem(item);
+    // the inventory and the item map could pick different free slots
+    invalidate();
   }
 
   /**
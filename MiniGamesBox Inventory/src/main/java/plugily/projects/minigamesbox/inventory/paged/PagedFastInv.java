@@ -43,22 +43,23 @@ public class PagedFastInv extends RefreshableFastInv {
         if (page < 0) {
             return ItemMap.EMPTY;
         }
-        ItemMap map = getPage(page);
-        if (lastLineSequence == null) {
-            return map;
+        return getPage(page);
+    }
+
+    @Override
+    protected ClickableItem getSlotItem(ItemMap itemMap, int slot) {
+        ClickableItem item = itemMap.getItem(slot);
+        if (lastLineSequence == null || itemMap == ItemMap.EMPTY) {
+            return item;
         }
 
-        // Clone the map and apply the last line sequence
-        ItemMap cloneMap = new ItemMap(map);
-        int inventorySize = getInventory().getSize();
-        int startSlot = inventorySize - getSlotsPerLine();
-        for (int slot = startSlot; slot < inventorySize; slot++) {
-            ClickableItem item = lastLineSequence.apply(slot - startSlot, cloneMap.getItem(slot));
-            if (item != null) {
-                cloneMap.setItem(slot, item);
-            }
+        // Apply the last line sequence on top of the page without touching the page itself
+        int startSlot = getInventory().getSize() - getSlotsPerLine();
+        if (slot < startSlot) {
+            return item;
         }
-        return cloneMap;
+        ClickableItem lastLineItem = lastLineSequence.apply(slot - startSlot, item);
+        return lastLineItem != null ? lastLineItem : item;
     }
 
     private int getActualPage(int page) {